@@ -0,0 +1,97 @@
+package org.function;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the composition function of {@link Combinators} against its
+ * {@link SC} definitions.
+ * <p>
+ * Every form is benchmarked in a JVM of its own, so that no form profiles
+ * the call sites of another.  The composed functions allocate nothing, so
+ * that any allocation is due to the form.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CompositionBenchmark
+{
+	private static final Map<String,
+			Supplier<Function<Function<Object, Object>,
+					Function<Function<Object, Object>,
+					Function<Object, Object>>>>> FORMS = Map.of(
+		"z", Combinators::z,
+		"cfxgx", SC::cfxgx,
+		"scfgx", SC::scfgx,
+		"csfcfgx", SC::csfcfgx,
+		"scscfgx", SC::scscfgx,
+		"scsc", SC::scsc);
+
+	@Param({ "z", "cfxgx", "scfgx", "csfcfgx", "scscfgx", "scsc" })
+	public String form;
+
+	private Supplier<Function<Function<Object, Object>,
+				Function<Function<Object, Object>,
+				Function<Object, Object>>>> factory;
+	private Function<Function<Object, Object>,
+				Function<Function<Object, Object>,
+				Function<Object, Object>>> z;
+	private Function<Object, Object> f;
+	private Function<Object, Object> g;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		factory = FORMS.get(form);
+		z = factory.get();
+		f = Object::getClass;
+		g = Function.identity();
+		x = new Object();
+	}
+
+	/**
+	 * Applies an obtained function.
+	 *
+	 * @return {@code Zfgx}
+	 */
+	@Benchmark
+	public Object apply()
+	{
+		return z.apply(f)
+			.apply(g)
+			.apply(x);
+	}
+
+	/**
+	 * Obtains a function from its factory method and applies it.
+	 *
+	 * @return {@code Zfgx}
+	 */
+	@Benchmark
+	public Object obtainAndApply()
+	{
+		return factory
+			.get()
+			.apply(f)
+			.apply(g)
+			.apply(x);
+	}
+}
@@ -0,0 +1,103 @@
+package org.function;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the elementary duplicator of {@link Combinators} against its
+ * {@link SC} definitions.
+ * <p>
+ * Every form is benchmarked in a JVM of its own, so that no form profiles
+ * the call sites of another.  The duplicated function allocates nothing,
+ * so that any allocation is due to the form.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DuplicatorBenchmark
+{
+	private static final String W4 =
+		"sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc";
+	private static final Map<String,
+			Supplier<Function<Function<Object, Function<Object, Object>>,
+				Function<Object, Object>>>> FORMS = Map.ofEntries(
+		Map.entry("w", Combinators::w),
+		Map.entry("fxcxfx", SC::fxcxfx),
+		Map.entry("fxscfx", SC::fxscfx),
+		Map.entry("sfscfx", SC::sfscfx),
+		Map.entry("ssscfx", SC::ssscfx),
+		Map.entry("sssc", SC::sssc),
+		Map.entry("tfxx", SC::tfxx),
+		Map.entry("ttxfx", SC::ttxfx),
+		Map.entry("tttxxf", SC::tttxxf),
+		Map.entry("ttxttxf", SC::ttxttxf),
+		Map.entry("sttttxf", SC::sttttxf),
+		Map.entry("tsttttfx", SC::tsttttfx),
+		Map.entry("tstttt", SC::tstttt),
+		Map.entry(W4, SC::
+	sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc));
+
+	@Param({ "w", "fxcxfx", "fxscfx", "sfscfx", "ssscfx", "sssc", "tfxx",
+			"ttxfx", "tttxxf", "ttxttxf", "sttttxf", "tsttttfx",
+			"tstttt", W4 })
+	public String form;
+
+	private Supplier<Function<Function<Object, Function<Object, Object>>,
+				Function<Object, Object>>> factory;
+	private Function<Function<Object, Function<Object, Object>>,
+				Function<Object, Object>> w;
+	private Function<Object, Function<Object, Object>> f;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		factory = FORMS.get(form);
+		w = factory.get();
+		f = x -> y -> y;
+		x = new Object();
+	}
+
+	/**
+	 * Applies an obtained function.
+	 *
+	 * @return {@code Wfx}
+	 */
+	@Benchmark
+	public Object apply()
+	{
+		return w.apply(f)
+			.apply(x);
+	}
+
+	/**
+	 * Obtains a function from its factory method and applies it.
+	 *
+	 * @return {@code Wfx}
+	 */
+	@Benchmark
+	public Object obtainAndApply()
+	{
+		return factory
+			.get()
+			.apply(f)
+			.apply(x);
+	}
+}
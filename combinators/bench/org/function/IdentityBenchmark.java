@@ -0,0 +1,81 @@
+package org.function;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the identity function of {@link Combinators} against its
+ * {@link SC} definitions.
+ * <p>
+ * Every form is benchmarked in a JVM of its own, so that no form profiles
+ * the call sites of another.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IdentityBenchmark
+{
+	private static final Map<String,
+				Supplier<Function<Object, Object>>> FORMS = Map.of(
+		"i", Combinators::i,
+		"cxx", SC::cxx,
+		"cxcx", SC::cxcx,
+		"sccx", SC::sccx,
+		"scc", SC::scc);
+
+	@Param({ "i", "cxx", "cxcx", "sccx", "scc" })
+	public String form;
+
+	private Supplier<Function<Object, Object>> factory;
+	private Function<Object, Object> i;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		factory = FORMS.get(form);
+		i = factory.get();
+		x = new Object();
+	}
+
+	/**
+	 * Applies an obtained function.
+	 *
+	 * @return {@code Ix}
+	 */
+	@Benchmark
+	public Object apply()
+	{
+		return i.apply(x);
+	}
+
+	/**
+	 * Obtains a function from its factory method and applies it.
+	 *
+	 * @return {@code Ix}
+	 */
+	@Benchmark
+	public Object obtainAndApply()
+	{
+		return factory
+			.get()
+			.apply(x);
+	}
+}
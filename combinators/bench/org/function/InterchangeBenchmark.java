@@ -0,0 +1,101 @@
+package org.function;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the interchange function of {@link Combinators} against its
+ * {@link SC} definitions.
+ * <p>
+ * Every form is benchmarked in a JVM of its own, so that no form profiles
+ * the call sites of another.  The interchanged function allocates nothing,
+ * so that any allocation is due to the form.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InterchangeBenchmark
+{
+	private static final Map<String,
+			Supplier<Function<Function<Object, Function<Object, Object>>,
+					Function<Object,
+					Function<Object, Object>>>>> FORMS = Map.of(
+		"t", Combinators::t,
+		"fxcyx", SC::fxcyx,
+		"sfcyx", SC::sfcyx,
+		"zsfcyx", SC::zsfcyx,
+		"zzsfcyx", SC::zzsfcyx,
+		"zzsfccfyx", SC::zzsfccfyx,
+		"szzsccfyx", SC::szzsccfyx,
+		"szzscc", SC::szzscc,
+		"sscscscscscc", SC::sscscscscscc);
+
+	@Param({ "t", "fxcyx", "sfcyx", "zsfcyx", "zzsfcyx", "zzsfccfyx",
+			"szzsccfyx", "szzscc", "sscscscscscc" })
+	public String form;
+
+	private Supplier<Function<Function<Object, Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>>> factory;
+	private Function<Function<Object, Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>> t;
+	private Function<Object, Function<Object, Object>> f;
+	private Object y;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		factory = FORMS.get(form);
+		t = factory.get();
+		f = x -> y -> y;
+		y = new Object();
+		x = new Object();
+	}
+
+	/**
+	 * Applies an obtained function.
+	 *
+	 * @return {@code Tfyx}
+	 */
+	@Benchmark
+	public Object apply()
+	{
+		return t.apply(f)
+			.apply(y)
+			.apply(x);
+	}
+
+	/**
+	 * Obtains a function from its factory method and applies it.
+	 *
+	 * @return {@code Tfyx}
+	 */
+	@Benchmark
+	public Object obtainAndApply()
+	{
+		return factory
+			.get()
+			.apply(f)
+			.apply(y)
+			.apply(x);
+	}
+}
@@ -0,0 +1,113 @@
+package org.function;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the interchange function written as a term, applied through
+ * the closures of {@link Combinators} that its combinators stand for,
+ * against the same term applied through an {@link Interpreter}.
+ * <p>
+ * Before measurement, every setup applies the other forms too, so that
+ * the {@code apply} call sites of the closures are as polluted as they
+ * are in a program that composes many functions.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InterpreterBenchmark
+{
+	private static final String[] FORMS = { "T", "S(ZZS)(CC)",
+					"S((S(CS)C)(S(CS)C)S)(CC)" };
+
+	@Param({ "T", "S(ZZS)(CC)", "S((S(CS)C)(S(CS)C)S)(CC)" })
+	public String form;
+
+	private Function<Function<Object, Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>> closure;
+	private Function<Function<Object, Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>> interpreted;
+	private Function<Object, Function<Object, Object>> f;
+	private Object y;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		f = x -> y -> y;
+		y = new Object();
+		x = new Object();
+
+		for (String form : FORMS) {
+			final Term term = Term.parse(form);
+
+			for (int i = 0; i < 10_000; ++i) {
+				InterpreterBenchmark.<Function<Object, Function<Object,
+					Function<Object, Object>>>>encode(term)
+					.apply(f).apply(y).apply(x);
+				Interpreter.<Object, Function<Object,
+					Function<Object, Object>>>function(term)
+					.apply(f).apply(y).apply(x);
+			}
+		}
+
+		closure = encode(Term.parse(form));
+		interpreted = Interpreter.function(Term.parse(form));
+	}
+
+	/*
+	 * Applies the closures that the combinators of the passed term stand
+	 * for, as a program written with Combinators would.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <A1> A1 encode(Term term)
+	{
+		return (term instanceof Term.App app)
+			? ((Function<Object, A1>) encode(app.function()))
+				.apply(encode(app.argument()))
+			: (A1) ((Term.Combinator) term).function();
+	}
+
+	/**
+	 * Applies the closure encoding of the term.
+	 *
+	 * @return {@code Tfyx}
+	 */
+	@Benchmark
+	public Object closure()
+	{
+		return closure.apply(f)
+			.apply(y)
+			.apply(x);
+	}
+
+	/**
+	 * Applies the interpreted term.
+	 *
+	 * @return {@code Tfyx}
+	 */
+	@Benchmark
+	public Object interpreted()
+	{
+		return interpreted.apply(f)
+			.apply(y)
+			.apply(x);
+	}
+}
@@ -0,0 +1,248 @@
+package org.function;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Measures the cost of the first application of every entry point of
+ * {@link Combinators}, and of every derivation of the registries of {@link
+ * Derivations}, in fresh JVMs, with and without an archive of class data
+ * sharing (AppCDS).
+ * <p>
+ * Every entry point is looked up by its name, invoked, and applied once in
+ * each of several fresh JVMs, to the arguments that the registry of its
+ * combinator applies it to, and these JVMs report the time of the first
+ * application, the uptime of the JVM when it obtained its first result,
+ * and the number of classes that the first application loaded, i.e. its
+ * declaring class and mostly the hidden classes of its lambda expressions.
+ * (No registry is initialised by these JVMs, so that no declaring class is
+ * loaded beforehand.)  The medians of these JVMs are reported, first for
+ * JVMs that load every class anew, and then, if an archive is passed, for
+ * JVMs that map the archived classes.
+ * <p>
+ * Unlike the other benchmarks, this one does not run under JMH, whose
+ * forks cannot map an archive of a JAR file; run it by {@code ./build.sh
+ * startup}, which packages the JAR file and its archive first.
+ */
+public class StartupBenchmark
+{
+	private static final String ENTRY = "-entry";
+
+	private static final Object X = new Object();
+	private static final Function<Object, Object> UNARY = x -> x;
+	private static final Function<Object, Function<Object, Object>> BINARY =
+							x -> UNARY;
+
+	private StartupBenchmark() { /* No instantiation. */ }
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args {@code [-f forks] jar [archive]}, where {@code forks} is
+	 *	the number of JVMs per entry point, 10 by default, {@code jar}
+	 *	is the packaged JAR file, and {@code archive} is its dynamic
+	 *	archive; or {@code -entry combinator name}, which applies the
+	 *	named entry point of the named combinator, e.g. {@code T
+	 *	SC.szzscc}, in this JVM and reports its costs
+	 * @throws IOException if a JVM cannot be started
+	 * @throws InterruptedException if interrupted while waiting for a JVM
+	 * @throws ReflectiveOperationException if the named entry point cannot
+	 *	be invoked
+	 */
+	public static void main(String[] args) throws IOException,
+						InterruptedException,
+						ReflectiveOperationException
+	{
+		if (args.length == 3 && ENTRY.equals(args[0])) {
+			first(args[1], args[2]);
+			return;
+		}
+
+		final boolean forked = (args.length > 1 && "-f".equals(args[0]));
+		final int forks = (forked) ? Integer.parseInt(args[1]) : 10;
+		final List<String> paths = Arrays.asList(args)
+						.subList((forked) ? 2 : 0, args.length);
+
+		if (forks < 1 || paths.isEmpty() || paths.size() > 2)
+			throw new IllegalArgumentException(
+				"Usage: StartupBenchmark [-f forks] jar [archive]");
+
+		System.out.printf("%-72s %4s %12s %10s %8s%n", "entry point", "cds",
+				"first (us)", "up (ms)", "classes");
+
+		for (Map.Entry<String, String> entry : entries().entrySet()) {
+			report(entry.getValue(), entry.getKey(), null,
+							paths.get(0), forks);
+
+			if (paths.size() == 2)
+				report(entry.getValue(), entry.getKey(),
+					paths.get(1), paths.get(0), forks);
+		}
+	}
+
+	/* Returns the combinators of the entry points, by their names. */
+	private static Map<String, String> entries()
+	{
+		final Map<String, String> entries = new LinkedHashMap<>();
+
+		for (Derivations<?> registry : List.of(Derivations.identity(),
+						Derivations.interchange(),
+						Derivations.composition(),
+						Derivations.duplicator())) {
+			for (String name : registry.names())
+				entries.put(name, registry.combinator());
+		}
+
+		/* Of no registry. */
+		entries.put("Combinators.c", "C");
+		entries.put("Combinators.s", "S");
+		return entries;
+	}
+
+	private static void report(String combinator, String entry,
+				String archive, String jar, int forks)
+				throws IOException, InterruptedException
+	{
+		final long[][] samples = new long[3][forks];
+
+		for (int i = 0; i < forks; ++i) {
+			final long[] sample = fork(combinator, entry, archive,
+									jar);
+
+			for (int j = 0; j < samples.length; ++j)
+				samples[j][i] = sample[j];
+		}
+
+		System.out.printf("%-72s %4s %12d %10d %8d%n", entry,
+				(archive == null) ? "off" : "on",
+				median(samples[0]) / 1000L,
+				median(samples[1]),
+				median(samples[2]));
+	}
+
+	private static long median(long[] samples)
+	{
+		Arrays.sort(samples);
+		return samples[samples.length >> 1];
+	}
+
+	/* Returns the nanoseconds, uptime milliseconds, and classes of a JVM. */
+	private static long[] fork(String combinator, String entry,
+				String archive, String jar)
+				throws IOException, InterruptedException
+	{
+		final List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator
+						+ "bin" + File.separator + "java");
+
+		if (archive != null)
+			command.add("-XX:SharedArchiveFile=" + archive);
+
+		command.add("-cp");
+		command.add(jar + File.pathSeparator
+				+ System.getProperty("java.class.path"));
+		command.add(StartupBenchmark.class.getName());
+		command.add(ENTRY);
+		command.add(combinator);
+		command.add(entry);
+
+		final Process process = new ProcessBuilder(command)
+			.redirectError(ProcessBuilder.Redirect.INHERIT)
+			.start();
+		final String line;
+
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(),
+						StandardCharsets.UTF_8))) {
+			line = reader.readLine();
+		}
+
+		if (process.waitFor() != 0 || line == null)
+			throw new IllegalStateException(entry);
+
+		return Arrays.stream(line.split(" "))
+			.mapToLong(Long::parseLong)
+			.toArray();
+	}
+
+	private static void first(String combinator, String entry)
+				throws ReflectiveOperationException
+	{
+		final int dot = entry.lastIndexOf('.');
+		final String type = "org.function." + entry.substring(0, dot);
+		final String name = entry.substring(dot + 1);
+		final Object[] arguments = arguments(combinator);
+		final ClassLoadingMXBean classes = ManagementFactory
+							.getClassLoadingMXBean();
+		final long loaded = classes.getTotalLoadedClassCount();
+		final long start = System.nanoTime();
+		final Object value = apply(Class.forName(type)
+						.getDeclaredMethod(name)
+						.invoke(null),
+					arguments);
+		final long elapsed = System.nanoTime() - start;
+		final long uptime = ManagementFactory.getRuntimeMXBean()
+							.getUptime();
+
+		if (value == null)
+			throw new AssertionError(entry);
+
+		System.out.println(elapsed + " " + uptime + " "
+				+ (classes.getTotalLoadedClassCount() - loaded));
+	}
+
+	/* Returns the arguments that the registry of a combinator applies. */
+	private static Object[] arguments(String combinator)
+	{
+		switch (combinator) {
+		case "I":
+			return new Object[] { X };
+		case "C":
+			return new Object[] { X, X };
+		case "T":
+			return new Object[] { BINARY, X, X };
+		case "Z":
+			return new Object[] { UNARY, UNARY, X };
+		case "S":
+			return new Object[] { BINARY, UNARY, X };
+		case "W":
+			return new Object[] { BINARY, X };
+		default:
+			throw new IllegalArgumentException(combinator);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object apply(Object function, Object[] arguments)
+	{
+		if (function instanceof TriFunction<?, ?, ?, ?>)
+			return ((TriFunction<Object, Object, Object, Object>)
+							function)
+				.apply(arguments[0], arguments[1],
+							arguments[2]);
+
+		if (function instanceof BiFunction<?, ?, ?>)
+			return ((BiFunction<Object, Object, Object>) function)
+				.apply(arguments[0], arguments[1]);
+
+		Object value = function;
+
+		for (Object argument : arguments)
+			value = ((Function<Object, Object>) value)
+							.apply(argument);
+
+		return value;
+	}
+}
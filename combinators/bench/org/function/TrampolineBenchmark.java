@@ -0,0 +1,87 @@
+package org.function;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures towers of functions composed with {@link Combinators#z()}
+ * against the same towers composed with {@link TrampolinedCombinators#z()}.
+ * <p>
+ * The towers are shallow enough for the direct closures not to overflow
+ * the stack, so that the overhead of trampolining is measured for depths
+ * at which it is not needed.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TrampolineBenchmark
+{
+	@Param({ "1", "16", "256" })
+	public int depth;
+
+	private Function<Object, Object> direct;
+	private Function<Object, Object> trampolined;
+	private Object x;
+
+	@Setup
+	public void setUp()
+	{
+		final Function<Object, Object> f = Function.identity();
+		final TrampolinedFunction<Object, Object> g =
+						TrampolinedFunction.of(f);
+		Function<Object, Object> direct = Combinators.i();
+		TrampolinedFunction<Object, Object> trampolined =
+					TrampolinedCombinators.i();
+
+		for (int i = 0; i < depth; ++i) {
+			direct = Combinators.<Object, Object, Object>z()
+				.apply(f)
+				.apply(direct);
+			trampolined = TrampolinedCombinators.<Object, Object,
+								Object>z()
+				.apply(g)
+				.apply(trampolined);
+		}
+
+		this.direct = direct;
+		this.trampolined = trampolined.function();
+		x = new Object();
+	}
+
+	/**
+	 * Applies a tower of closures.
+	 *
+	 * @return {@code Zf(Zf(...))x}
+	 */
+	@Benchmark
+	public Object direct()
+	{
+		return direct.apply(x);
+	}
+
+	/**
+	 * Runs a tower of trampolined functions.
+	 *
+	 * @return {@code Zf(Zf(...))x}
+	 */
+	@Benchmark
+	public Object trampolined()
+	{
+		return trampolined.apply(x);
+	}
+}
@@ -2,13 +2,25 @@
 #
 # Shell dependencies (packaging): cp, mkdir (of coreutils); find (of findutils).
 #
-# Compile, test, and package "org.function" classes.
+# Compile, test, and package "org.function" classes, and archive the classes
+# that a training run loads for class data sharing (AppCDS); or compile and
+# run the JMH benchmarks of "org.function" classes, given the JMH_CLASSPATH
+# variable that names the jmh-core and jmh-generator-annprocess JAR files and
+# their dependencies, e.g.
+#
+#	JMH_CLASSPATH=jmh-core.jar:jmh-generator-annprocess.jar:jopt-simple.jar\
+#	:commons-math3.jar ./build.sh bench -f 1 Identity
+#
+# or package "org.function" classes and run their startup benchmark in fresh
+# JVMs, with and without the archive, e.g.
+#
+#	./build.sh startup -f 5
 
 agenda=1				# Compilation only.
 
 case "$1" in
 -h | --help)
-	echo >&2 "Usage: $0 [test | package] [arguments...]"
+	echo >&2 "Usage: $0 [test | package | bench | startup] [arguments...]"
 	exit 2
 	;;
 test)	agenda=$((${agenda} | 2))	# Compilation and testing.
@@ -17,19 +29,56 @@ test)	agenda=$((${agenda} | 2))	# Compilation and testing.
 package)
 	agenda=$((${agenda} | 2 | 4))	# Compilation and testing and packaging.
 	shift
+	;;
+bench)	agenda=$((${agenda} | 8))	# Compilation and benchmarking.
+	shift
+	;;
+startup)				# Packaging and startup benchmarking.
+	agenda=$((${agenda} | 4 | 16))
+	shift
 esac
 
 set +f					# Enable pathname expansion.
 src=src
 bin=bin
+gen=gen					# Of the generated sources.
 test -x ${src}/ || exit 4		# Check the current working directory.
-javac -d ${bin}/ -Xdiags:verbose -Xlint ${src}/org/function/*.java
+test -d ${gen} || mkdir ${gen}
+javac -d ${bin}/ -Xdiags:verbose -Xlint -proc:none -sourcepath ${src}/ \
+	${src}/org/function/DerivationProcessor.java	# Its first stage.
+javac -d ${bin}/ -Xdiags:verbose -Xlint -Xlint:-processing -s ${gen}/ \
+	-processorpath ${bin}/ -processor org.function.DerivationProcessor \
+	${src}/org/function/*.java
+
+if test $((${agenda} & 8)) -ne 0
+then
+	echo >&2 "BENCHMARKING..."
+	test -n "${JMH_CLASSPATH}" || exit 32
+	bench=bench
+	bench_bin=bench-bin
+	javac -d ${bench_bin}/ -Xdiags:verbose -Xlint \
+		-cp ${bin}/:${JMH_CLASSPATH} -processorpath ${JMH_CLASSPATH} \
+		${bench}/org/function/*.java
+	java -cp ${bench_bin}/:${bin}/:${JMH_CLASSPATH} \
+		org.openjdk.jmh.Main -prof gc "$@"
+	exit 0
+fi
+
+test $((${agenda} & 6)) -ne 0 || exit 0
 
-test $((${agenda} & 2)) -ne 0 || exit 0
-echo >&2 "TESTING..."
-java -cp ${bin}/ -XX:+UnlockExperimentalVMOptions -XX:+UseEpsilonGC \
-	-XX:+AlwaysPreTouch -Xms4m -Xmx4m -Xlog:heap\*=info \
-	org.function.SCTester "$@"
+if test $((${agenda} & 2)) -ne 0
+then
+	echo >&2 "TESTING..."
+
+	for tests in ${src}/org/function/*Tests.java
+	do				# A fresh heap for every test class.
+		tests=${tests##*/}
+		java -cp ${bin}/ -XX:+UnlockExperimentalVMOptions \
+			-XX:+UseEpsilonGC -XX:+AlwaysPreTouch -Xms4m -Xmx4m \
+			-Xlog:heap\*=info \
+			org.function.SCTester "$@" ${tests%.java}
+	done
+fi
 
 test $((${agenda} & 4)) -ne 0 || exit 0
 echo >&2 "PACKAGING..."
@@ -46,3 +95,16 @@ jar -cfv ../${tmp}/combinators.jar \
 	${meta_inf}/LICENSE \
 	`find org/function -iname \*.class \
 		\! \( -iname \*Tests.class -o -iname \*Tester.class \) -type f`
+cd ..
+echo >&2 "ARCHIVING..."
+java -XX:ArchiveClassesAtExit=${tmp}/combinators.jsa \
+	-cp ${tmp}/combinators.jar org.function.Training
+
+test $((${agenda} & 16)) -ne 0 || exit 0
+echo >&2 "BENCHMARKING STARTUP..."
+bench=bench
+bench_bin=bench-bin
+javac -d ${bench_bin}/ -Xdiags:verbose -Xlint -cp ${bin}/ \
+	${bench}/org/function/StartupBenchmark.java
+java -cp ${bench_bin}/:${tmp}/combinators.jar org.function.StartupBenchmark "$@" \
+	${tmp}/combinators.jar ${tmp}/combinators.jsa
@@ -0,0 +1,359 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A graph reducer of {@link Term terms} whose nodes are stored in a flat
+ * array of a fixed capacity rather than as objects.
+ * <p>
+ * Every node takes three consecutive slots of the array: a tag, i.e.
+ * a primitive combinator, a literal, an application, or an indirection,
+ * and two operands, e.g. the indices of the function and of the argument
+ * of an application.  Nodes are bump-allocated, and are all reclaimed at
+ * once by {@link #reset()}, so that a reduction creates no garbage but for
+ * the table of the subterms of the term that it loads, which preserves
+ * their sharing, and the terms that it reads back; and an arena takes the
+ * same memory no matter how many graphs are reduced in it.
+ * <p>
+ * Reduction is in normal order, and a redex is overwritten with its
+ * contractum, as by a {@link GraphReducer}; unlike a graph reducer, an
+ * arena does not apply literal functions: every literal is an irreducible
+ * constant.  An arena is not safe for use by several threads.
+ *
+ * @see GraphReducer
+ */
+public final class Arena
+{
+	private static final int WIDTH = 3;		/* Slots per node. */
+	private static final int LITERAL = Term.Combinator.values().length;
+	private static final int APPLICATION = LITERAL + 1;
+	private static final int INDIRECTION = APPLICATION + 1;
+	private static final int NORMAL = 1 << 30;	/* A mark of a tag. */
+
+	private final int[] nodes;
+	private final Term[] terms;		/* To read back. */
+	private final List<Object> literals = new ArrayList<>();
+	private int top;
+	private int[] spine = new int[16];
+	private int[] arguments = new int[16];	/* To normalise. */
+	private long steps;
+
+	private Arena(int capacity)
+	{
+		this.nodes = new int[capacity * WIDTH];
+		this.terms = new Term[capacity];
+
+		for (Term.Combinator combinator : Term.Combinator.values())
+			allocate(combinator.ordinal(), 0, 0);
+	}
+
+	/**
+	 * Returns a new arena of the passed number of nodes.
+	 *
+	 * @param capacity the greatest number of nodes
+	 * @return a new arena
+	 * @throws IllegalArgumentException if the capacity is less than the
+	 *	number of primitive combinators or greater than the greatest
+	 *	capacity of an arena
+	 */
+	public static Arena newInstance(int capacity)
+	{
+		if (capacity < LITERAL || capacity > (Integer.MAX_VALUE - 8)
+								/ WIDTH)
+			throw new IllegalArgumentException(Integer
+						.toString(capacity));
+
+		return new Arena(capacity);
+	}
+
+	/**
+	 * Returns the greatest number of nodes of this arena.
+	 *
+	 * @return the capacity of this arena
+	 */
+	public int capacity()			{ return nodes.length / WIDTH; }
+
+	/**
+	 * Returns the number of nodes allocated in this arena since it was
+	 * last reset, counting a node for every primitive combinator.
+	 *
+	 * @return the number of allocated nodes
+	 */
+	public int size()			{ return top / WIDTH; }
+
+	/**
+	 * Returns the number of redexes contracted so far in this arena.
+	 *
+	 * @return the number of contracted redexes
+	 */
+	public long steps()			{ return steps; }
+
+	/**
+	 * Reclaims every node but the primitive combinators, and every
+	 * literal value, of this arena.
+	 */
+	public void reset()
+	{
+		top = LITERAL * WIDTH;
+		literals.clear();
+	}
+
+	/**
+	 * Loads the passed term into this arena and reduces it to its normal
+	 * form.  The reduction does not terminate for a term that has no
+	 * normal form.
+	 *
+	 * @param term a term
+	 * @return the normal form of the term, which shares every subterm
+	 *	that the reduced graph shares
+	 * @throws IllegalStateException if this arena has no room for
+	 *	another node
+	 */
+	public Term normalize(Term term)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final long before = steps;
+		final Term normalForm = readBack(normalize(load(term)));
+
+		if (event != null)
+			event.end(Arena.class, term, steps - before);
+
+		return normalForm;
+	}
+
+	private int allocate(int tag, int left, int right)
+	{
+		if (top == nodes.length)
+			throw new IllegalStateException("Out of nodes");
+
+		final int node = top;
+		nodes[node] = tag;
+		nodes[node + 1] = left;
+		nodes[node + 2] = right;
+		top += WIDTH;
+		return node;
+	}
+
+	private static int combinator(Term.Combinator combinator)
+	{
+		return combinator.ordinal() * WIDTH;
+	}
+
+	private int tag(int node)		{ return nodes[node] & ~NORMAL; }
+
+	private int follow(int node)
+	{
+		int target = node;
+
+		while (tag(target) == INDIRECTION)
+			target = nodes[target + 1];
+
+		return target;
+	}
+
+	private static int[] pushed(int[] stack, int size, int node)
+	{
+		final int[] pushed = (size == stack.length)
+			? Arrays.copyOf(stack, size << 1)
+			: stack;
+		pushed[size] = node;
+		return pushed;
+	}
+
+	private int whnf(int root)
+	{
+		int size = 0;			/* Of the spine stack. */
+		int node = follow(root);
+
+		for (;;) {
+			final int tag = tag(node);
+
+			if (tag == APPLICATION) {
+				spine = pushed(spine, size++, node);
+				node = follow(nodes[node + 1]);
+			} else if (tag < LITERAL && size >= Term.Combinator
+						.values()[tag].arity()) {
+				size = contract(tag, size);
+				node = follow(spine[size]);
+			} else {
+				return follow(root);
+			}
+		}
+	}
+
+	/*
+	 * Contracts the redex of the passed combinator on top of the spine
+	 * stack, and leaves its contractum in place of its outermost
+	 * application, just above the returned size of the stack.
+	 */
+	private int contract(int tag, int size)
+	{
+		int redex = spine[--size];
+		final int x = nodes[redex + 2];
+
+		switch (Term.Combinator.values()[tag]) {
+		case I:		// Ix = x
+			overwrite(redex, x);
+			break;
+		case C:		// Cxy = x
+			redex = spine[--size];
+			overwrite(redex, x);
+			break;
+		case W:		// Wxy = xyy
+			redex = spine[--size];
+			final int w = nodes[redex + 2];
+			overwrite(redex, APPLICATION,
+				allocate(APPLICATION, x, w), w);
+			break;
+		default:
+			final int y = nodes[spine[--size] + 2];
+			redex = spine[--size];
+			final int z = nodes[redex + 2];
+
+			switch (Term.Combinator.values()[tag]) {
+			case T:		// Txyz = xzy
+				overwrite(redex, APPLICATION,
+					allocate(APPLICATION, x, z), y);
+				break;
+			case Z:		// Zxyz = x(yz)
+				overwrite(redex, APPLICATION, x,
+					allocate(APPLICATION, y, z));
+				break;
+			case S:		// Sxyz = (xz)(yz)
+				overwrite(redex, APPLICATION,
+					allocate(APPLICATION, x, z),
+					allocate(APPLICATION, y, z));
+				break;
+			default:
+				throw new AssertionError(tag);
+			}
+		}
+
+		++steps;
+		spine[size] = redex;
+		return size;
+	}
+
+	private void overwrite(int redex, int target)
+	{
+		overwrite(redex, INDIRECTION, follow(target), 0);
+	}
+
+	private void overwrite(int redex, int tag, int left, int right)
+	{
+		nodes[redex] = tag;
+		nodes[redex + 1] = left;
+		nodes[redex + 2] = right;
+	}
+
+	private int normalize(int root)
+	{
+		int size = 0;			/* Of the argument stack. */
+		arguments = pushed(arguments, size++, root);
+
+		while (size > 0) {
+			final int node = whnf(arguments[--size]);
+
+			if ((nodes[node] & NORMAL) != 0)
+				continue;
+
+			nodes[node] |= NORMAL;
+
+			for (int application = node;
+					tag(application) == APPLICATION;
+					application = follow(nodes[application + 1]))
+				arguments = pushed(arguments, size++,
+						nodes[application + 2]);
+		}
+
+		return follow(root);
+	}
+
+	private int load(Term term)
+	{
+		final Map<Term, Integer> loaded = new IdentityHashMap<>();
+		final Deque<Term> pending = new ArrayDeque<>();
+		pending.push(term);
+
+		while (!pending.isEmpty()) {
+			final Term next = pending.peek();
+
+			if (loaded.containsKey(next)) {
+				pending.pop();
+			} else if (next instanceof Term.App app) {
+				final Integer function = loaded.get(app.function());
+				final Integer argument = loaded.get(app.argument());
+
+				if (function == null)
+					pending.push(app.function());
+
+				if (argument == null)
+					pending.push(app.argument());
+
+				if (function != null && argument != null)
+					loaded.put(pending.pop(), allocate(
+							APPLICATION, function,
+							argument));
+			} else if (next instanceof Term.Combinator combinator) {
+				loaded.put(pending.pop(), combinator(combinator));
+			} else {
+				literals.add(((Term.Lit) next).value());
+				loaded.put(pending.pop(), allocate(LITERAL,
+						literals.size() - 1, 0));
+			}
+		}
+
+		return loaded.get(term);
+	}
+
+	private Term readBack(int root)
+	{
+		int size = 0;			/* Of the argument stack. */
+		arguments = pushed(arguments, size++, follow(root));
+
+		while (size > 0) {
+			final int next = arguments[size - 1];
+
+			if (terms[next / WIDTH] != null) {
+				--size;
+				continue;
+			}
+
+			final int tag = tag(next);
+
+			if (tag == APPLICATION) {
+				final int function = follow(nodes[next + 1]);
+				final int argument = follow(nodes[next + 2]);
+				final Term left = terms[function / WIDTH];
+				final Term right = terms[argument / WIDTH];
+
+				if (left == null)
+					arguments = pushed(arguments, size++,
+								function);
+
+				if (right == null)
+					arguments = pushed(arguments, size++,
+								argument);
+
+				if (left != null && right != null)
+					terms[arguments[--size] / WIDTH] =
+						new Term.App(left, right);
+			} else {
+				terms[arguments[--size] / WIDTH] =
+					(tag == LITERAL)
+					? Term.lit(literals.get(nodes[next + 1]))
+					: Term.Combinator.values()[tag];
+			}
+		}
+
+		final Term normalForm = terms[follow(root) / WIDTH];
+		Arrays.fill(terms, 0, top / WIDTH, null);
+		return normalForm;
+	}
+}
@@ -0,0 +1,89 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class ArenaTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private ArenaTests() { /* No instantiation. */ }
+
+	static void testNormalize(boolean inConcurrence)
+	{
+		final Arena arena = Arena.newInstance(1 << 10);
+		final GraphReducer reducer = GraphReducer.newInstance();
+		TermTests.DERIVATIONS.forEach((text, combinator) -> {
+			final Term term = TermTests.applyToHoles(
+				Term.parse(text), combinator.arity());
+			assert reducer.normalize(term)
+				.equals(arena.normalize(term)) : text;
+			arena.reset();
+		});
+		assert arena.steps() > 0L && arena.size() == 6;
+		assert Term.parse("S(CS)C").equals(arena
+			.normalize(Term.parse("I(S(CS)C)")));
+	}
+
+	static void testSharing(boolean inConcurrence)
+	{
+		/* W(*)(I(I<0>)), whose argument is reduced once. */
+		final Arena arena = Arena.newInstance(1 << 4);
+		final Term multiplier = Term.lit(0);
+		assert Term.app(multiplier, Term.lit(1), Term.lit(1)).equals(arena
+			.normalize(Term.app(Term.Combinator.W,
+				multiplier,
+				Term.app(Term.Combinator.I,
+					Term.app(Term.Combinator.I,
+						Term.lit(1))))));
+		assert arena.steps() == 3L;
+	}
+
+	static void testCapacity(boolean inConcurrence)
+	{
+		final Arena arena = Arena.newInstance(8);
+		final Term term = Term.parse("SII(SII)");
+
+		try {
+			arena.normalize(term);
+			assert false;
+		} catch (final IllegalStateException expected) { }
+
+		arena.reset();
+		assert arena.size() == 6 && arena.capacity() == 8;
+		assert Term.Combinator.C.equals(arena
+			.normalize(Term.parse("CCC")));
+
+		try {
+			Arena.newInstance(5);
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testNormalize(concurrent),
+					concurrent -> testSharing(concurrent),
+					concurrent -> testCapacity(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,299 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiFunction;
+
+/**
+ * The algorithms of bracket abstraction that translate {@link Lambda lambda
+ * terms} into {@link Term combinatory terms}.
+ * <p>
+ * The size of a translated term, see {@link Term#size()}, depends on the
+ * algorithm: for a lambda term of size <i>n</i>, {@link #NAIVE} may produce
+ * a term whose size is exponential in the depth of nested abstractions,
+ * {@link #TURNER} a term of size O(<i>n</i><sup>2</sup>), and
+ * {@link #KISELYOV} a term of size linear in <i>n</i>, when every bulk
+ * combinator that it uses is counted as one combinator.
+ *
+ * @see Lambda
+ * @see Term
+ */
+public enum BracketAbstraction
+{
+	/**
+	 * Schönfinkel's abstraction with {@code S}, {@code C}, and {@code I}:
+	 * <pre>
+	 * [x]MN  = S([x]M)([x]N)
+	 * [x]x   = I
+	 * [x]y   = Cy
+	 * </pre>
+	 */
+	NAIVE {
+		@Override
+		public Term compile(Lambda lambda)
+		{
+			return closed(translated(lambda, this::abstracted));
+		}
+
+		private Term abstracted(Name x, Term term)
+		{
+			if (term instanceof Term.App app)
+				return Term.app(Term.Combinator.S,
+					abstracted(x, app.function()),
+					abstracted(x, app.argument()));
+
+			return (x.is(term))
+				? Term.Combinator.I
+				: Term.app(Term.Combinator.C, term);
+		}
+	},
+
+	/**
+	 * Turner's abstraction, which also uses {@code T} and {@code Z} for
+	 * applications that do not mention an abstracted variable on one side,
+	 * and eta-reduces:
+	 * <pre>
+	 * [x]M   = CM                  (x not in M)
+	 * [x]x   = I
+	 * [x]Mx  = M                   (x not in M)
+	 * [x]MN  = Z M ([x]N)          (x not in M)
+	 * [x]MN  = T ([x]M) N          (x not in N)
+	 * [x]MN  = S([x]M)([x]N)
+	 * </pre>
+	 */
+	TURNER {
+		@Override
+		public Term compile(Lambda lambda)
+		{
+			return closed(translated(lambda, this::abstracted));
+		}
+
+		private Term abstracted(Name x, Term term)
+		{
+			if (!x.occurs(term))
+				return Term.app(Term.Combinator.C, term);
+
+			if (!(term instanceof Term.App app))
+				return Term.Combinator.I;
+
+			final Term m = app.function();
+			final Term n = app.argument();
+
+			if (!x.occurs(m))
+				return (x.is(n))
+					? m
+					: Term.app(Term.Combinator.Z, m,
+							abstracted(x, n));
+
+			return (x.occurs(n))
+				? Term.app(Term.Combinator.S,
+					abstracted(x, m),
+					abstracted(x, n))
+				: Term.app(Term.Combinator.T,
+					abstracted(x, m),
+					n);
+		}
+	},
+
+	/**
+	 * Kiselyov's abstraction of de Bruijn-indexed lambda terms with bulk
+	 * combinators, see "λ to SKI, Semantically" (FLOPS 2018), where every
+	 * bulk combinator is given in terms of {@code S}, {@code T}, and
+	 * {@code Z}:
+	 * <pre>
+	 * Z<sub>1</sub> = Z,	Z<sub>n+1</sub> = ZZZ<sub>n</sub>
+	 * T<sub>1</sub> = T,	T<sub>n+1</sub> = ZT(ZT<sub>n</sub>)
+	 * S<sub>1</sub> = S,	S<sub>n+1</sub> = ZS(ZS<sub>n</sub>)
+	 * </pre>
+	 */
+	KISELYOV {
+		@Override
+		public Term compile(Lambda lambda)
+		{
+			return convert(lambda, new ArrayDeque<>()).term;
+		}
+	};
+
+	/**
+	 * Translates the passed closed lambda term into a combinatory term.
+	 *
+	 * @param lambda a lambda term
+	 * @return a combinatory term
+	 * @throws IllegalArgumentException if the lambda term has a free
+	 *	variable
+	 */
+	public abstract Term compile(Lambda lambda);
+
+	private static Term closed(Term term)
+	{
+		if (Name.free(term))
+			throw new IllegalArgumentException("Free variable");
+
+		return term;
+	}
+
+	/*
+	 * Translates the passed lambda term with the passed abstraction of
+	 * a variable from a term, which returns a term without the variable.
+	 */
+	private static Term translated(Lambda lambda,
+				BiFunction<Name, Term, Term> abstraction)
+	{
+		if (lambda instanceof Lambda.Var var)
+			return Term.lit(new Name(var.name()));
+
+		if (lambda instanceof Lambda.App app)
+			return Term.app(translated(app.function(), abstraction),
+					translated(app.argument(), abstraction));
+
+		if (lambda instanceof Lambda.Abs abs)
+			return abstraction.apply(new Name(abs.parameter()),
+					translated(abs.body(), abstraction));
+
+		return ((Lambda.Const) lambda).term();
+	}
+
+	private static Converted convert(Lambda lambda, Deque<String> names)
+	{
+		if (lambda instanceof Lambda.Var var) {
+			int index = 0;
+
+			for (String name : names) {
+				if (name.equals(var.name()))
+					return variable(index);
+
+				++index;
+			}
+
+			throw new IllegalArgumentException("Free variable");
+		}
+
+		if (lambda instanceof Lambda.App app)
+			return combined(convert(app.function(), names),
+					convert(app.argument(), names));
+
+		if (lambda instanceof Lambda.Abs abs) {
+			names.push(abs.parameter());
+
+			try {
+				final Converted body = convert(abs.body(), names);
+				return (body.arity == 0)
+					? new Converted(0, Term.app(
+							Term.Combinator.C,
+							body.term))
+					: new Converted(body.arity - 1,
+							body.term);
+			} finally {
+				names.pop();
+			}
+		}
+
+		return new Converted(0, ((Lambda.Const) lambda).term());
+	}
+
+	/* [x_i ... x_0]x_i = Z_i C [x_i-1 ... x_0]x_i-1, [x_0]x_0 = I. */
+	private static Converted variable(int index)
+	{
+		Term term = Term.Combinator.I;
+
+		for (int i = 1; i <= index; ++i)
+			term = Term.app(bulk(Term.Combinator.Z, i),
+						Term.Combinator.C,
+						term);
+
+		return new Converted(index + 1, term);
+	}
+
+	private static Converted combined(Converted left, Converted right)
+	{
+		final int n1 = left.arity;
+		final int n2 = right.arity;
+		final Term d1 = left.term;
+		final Term d2 = right.term;
+		final Term term;
+
+		if (n1 == 0 && n2 == 0)
+			term = Term.app(d1, d2);
+		else if (n1 == 0)
+			term = Term.app(bulk(Term.Combinator.Z, n2), d1, d2);
+		else if (n2 == 0)
+			term = Term.app(bulk(Term.Combinator.T, n1), d1, d2);
+		else if (n1 == n2)
+			term = Term.app(bulk(Term.Combinator.S, n1), d1, d2);
+		else if (n1 < n2)
+			term = Term.app(bulk(Term.Combinator.Z, n2 - n1),
+					Term.app(bulk(Term.Combinator.S, n1),
+									d1),
+					d2);
+		else
+			term = Term.app(bulk(Term.Combinator.T, n1 - n2),
+					Term.app(bulk(Term.Combinator.Z,
+								n1 - n2),
+						bulk(Term.Combinator.S, n2),
+						d1),
+					d2);
+
+		return new Converted(Math.max(n1, n2), term);
+	}
+
+	private static Term bulk(Term.Combinator combinator, int arity)
+	{
+		Term term = combinator;
+
+		for (int i = 1; i < arity; ++i)
+			term = (combinator == Term.Combinator.Z)
+				? Term.app(Term.Combinator.Z,
+						Term.Combinator.Z,
+						term)
+				: Term.app(Term.Combinator.Z,
+						combinator,
+						Term.app(Term.Combinator.Z,
+								term));
+
+		return term;
+	}
+
+	/** A combinatory term that takes as many innermost variables. */
+	private static final class Converted
+	{
+		final int arity;
+		final Term term;
+
+		Converted(int arity, Term term)
+		{
+			this.arity = arity;
+			this.term = term;
+		}
+	}
+
+	/** A variable of a lambda term, written as a literal. */
+	static final class Name
+	{
+		private final String name;
+
+		Name(String name)		{ this.name = name; }
+
+		boolean is(Term term)
+		{
+			return (term instanceof Term.Lit lit
+					&& lit.value() instanceof Name that
+					&& name.equals(that.name));
+		}
+
+		boolean occurs(Term term)
+		{
+			return (term instanceof Term.App app)
+				? occurs(app.function())
+						|| occurs(app.argument())
+				: is(term);
+		}
+
+		static boolean free(Term term)
+		{
+			return (term instanceof Term.App app)
+				? free(app.function()) || free(app.argument())
+				: (term instanceof Term.Lit lit
+					&& lit.value() instanceof Name);
+		}
+	}
+}
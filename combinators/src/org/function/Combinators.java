@@ -13,6 +13,8 @@ import java.util.function.Function;
  */
 public class Combinators
 {
+	private static final Function<?, ?> IDENTITY = x -> x;
+
 	private Combinators() { /* No instantiation. */ }
 
 	/**
@@ -34,7 +36,23 @@ public class Combinators
 	 * @return a curried function
 	 * @see java.util.function.Function#identity()
 	 */
-	public static <A1> Function<A1, A1> i()		{ return x -> x; }
+	@SuppressWarnings("unchecked")
+	public static <A1> Function<A1, A1> i()
+	{
+		if (Reductions.ENABLED)
+			return Reductions.i_();
+
+		return (Function<A1, A1>) IDENTITY;
+	}
+
+	/*
+	 * Returns whether the passed function is the uncounted identity
+	 * function, without obtaining an identity function from i().
+	 */
+	static boolean isIdentity(Function<?, ?> f)
+	{
+		return (f == IDENTITY);
+	}
 
 	/**
 	 * Returns a functional interface that takes a value {@code A1} and
@@ -54,6 +72,9 @@ public class Combinators
 	 */
 	public static <A1, A2> Function<A1, Function<A2, A1>> c()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.c_();
+
 		return x -> y -> x;
 	}
 
@@ -91,6 +112,9 @@ public class Combinators
 				Function<A2,
 				Function<A1, A3>>> t()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.t_();
+
 		return f -> y -> x -> f
 			.apply(x)
 			.apply(y);
@@ -129,6 +153,9 @@ public class Combinators
 				Function<Function<A1, A2>,
 				Function<A1, A3>>> z()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.z_();
+
 		return f -> g -> x -> f
 			.apply(g
 				.apply(x));
@@ -162,6 +189,9 @@ public class Combinators
 				Function<Function<A1, A2>,
 				Function<A1, A3>>> s()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.s_();
+
 		return f -> g -> x -> f
 			.apply(x)
 			.apply(g
@@ -209,6 +239,9 @@ public class Combinators
 	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
 				Function<A1, A2>> w()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.w_();
+
 		return f -> x -> f
 			.apply(x)
 			.apply(x);
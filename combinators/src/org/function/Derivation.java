@@ -0,0 +1,33 @@
+package org.function;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@link Term term} that an interface of a curried function
+ * is derived from, e.g. {@code @Derivation("S(ZZS)(CC)")} on an interface
+ * that extends {@link SC.T}.
+ * <p>
+ * The {@link DerivationProcessor} reduces the term at compile time, and
+ * generates a final class that implements the interface with the reduced
+ * body, so that a derivation costs no more to apply than its primitive
+ * combinator of {@link Combinators}.
+ *
+ * @see DerivationProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Derivation
+{
+	/**
+	 * Returns the written term, e.g. {@code "S(ZZS)(CC)"}.
+	 *
+	 * @return a written term
+	 * @see Term#parse(CharSequence)
+	 */
+	String value();
+}
@@ -0,0 +1,317 @@
+package org.function;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * An annotation processor that generates a final class for every interface
+ * annotated with {@link Derivation}.
+ * <p>
+ * The interface must extend {@link java.util.function.Function Function},
+ * whose curried arguments, e.g. the three arguments of {@link SC.T}, are
+ * counted.  The term of the annotation is applied to as many variables and
+ * reduced to its normal form, which is written as the body of the {@code
+ * apply} method of the generated class, e.g. {@code x0} applied to {@code
+ * x2} and then to {@code x1} for {@code @Derivation("S(ZZS)(CC)")}, with
+ * casts in place of type inference.  No combinator of the term is left to
+ * apply at run time; a subterm that the normal form shares is written, and
+ * evaluated, once for every occurrence.
+ * <p>
+ * If the interface extends {@link SC.C}, {@link SC.T}, {@link SC.Z}, or
+ * {@link SC.S}, the normal form must be that of its primitive combinator,
+ * so that a wrong derivation is a compilation error.  The reduction does
+ * not terminate for a term that has no normal form.
+ * <p>
+ * The generated class of an interface {@code Outer.Inner} is named {@code
+ * Reduced_Outer_Inner}, is as accessible as the interface, and offers its
+ * shared instance by a static {@code instance()} method.
+ *
+ * @see Derivation
+ * @see MethodHandleCompiler
+ */
+@SupportedAnnotationTypes("org.function.Derivation")
+public final class DerivationProcessor extends AbstractProcessor
+{
+	private static final String FUNCTION = "java.util.function.Function";
+	private static final Map<String, Term.Combinator> PRIMITIVES = Map.of(
+		"org.function.SC.C", Term.Combinator.C,
+		"org.function.SC.T", Term.Combinator.T,
+		"org.function.SC.Z", Term.Combinator.Z,
+		"org.function.SC.S", Term.Combinator.S);
+
+	/**
+	 * Constructs a new processor, which is initialised by a compiler.
+	 */
+	public DerivationProcessor()		{ }
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+					RoundEnvironment environment)
+	{
+		for (Element element : environment
+				.getElementsAnnotatedWith(Derivation.class)) {
+			try {
+				generate(element);
+			} catch (final IllegalArgumentException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						e.getMessage(),
+						element);
+			} catch (final IOException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						e.toString(),
+						element);
+			}
+		}
+
+		return true;
+	}
+
+	private void generate(Element element) throws IOException
+	{
+		if (element.getKind() != ElementKind.INTERFACE)
+			throw new IllegalArgumentException("Not an interface");
+
+		final TypeElement type = (TypeElement) element;
+		final String text = type.getAnnotation(Derivation.class).value();
+		final List<TypeMirror> parameters = new ArrayList<>();
+		TypeMirror result = function(type.asType());
+
+		/* Count the curried arguments of the function. */
+		while (isFunction(result)) {
+			final List<? extends TypeMirror> arguments =
+				((DeclaredType) result).getTypeArguments();
+			parameters.add(arguments.get(0));
+			result = arguments.get(1);
+		}
+
+		final int arity = parameters.size();
+		final String body = expression(MethodHandleCompiler.normalForm(
+						Term.parse(text), arity));
+
+		for (Map.Entry<String, Term.Combinator> primitive
+						: PRIMITIVES.entrySet()) {
+			final TypeElement supertype = processingEnv
+				.getElementUtils()
+				.getTypeElement(primitive.getKey());
+			final Types types = processingEnv.getTypeUtils();
+
+			if (supertype != null && types.isSubtype(
+					types.erasure(type.asType()),
+					types.erasure(supertype.asType()))
+				&& !body.equals(expression(MethodHandleCompiler
+					.normalForm(primitive.getValue(),
+							arity))))
+				throw new IllegalArgumentException(text
+					+ " is not a derivation of "
+					+ primitive.getValue() + ": " + body);
+		}
+
+		write(type, parameters, result, body);
+	}
+
+	private TypeMirror function(TypeMirror type)
+	{
+		final Deque<TypeMirror> pending = new ArrayDeque<>();
+		pending.add(type);
+
+		/* Search the supertypes breadth first, with their arguments. */
+		while (!pending.isEmpty()) {
+			final TypeMirror next = pending.remove();
+
+			if (isFunction(next))
+				return next;
+
+			pending.addAll(processingEnv.getTypeUtils()
+						.directSupertypes(next));
+		}
+
+		throw new IllegalArgumentException("Not a function");
+	}
+
+	private boolean isFunction(TypeMirror type)
+	{
+		return (type.getKind() == TypeKind.DECLARED
+			&& ((TypeElement) ((DeclaredType) type).asElement())
+				.getQualifiedName()
+				.contentEquals(FUNCTION)
+			&& ((DeclaredType) type).getTypeArguments().size() == 2);
+	}
+
+	/*
+	 * Writes a normal form as an expression of the curried arguments x0,
+	 * x1, ..., and of the primitive combinators of Combinators.
+	 */
+	private static String expression(Term term)
+	{
+		if (term instanceof Term.App app)
+			return "call(" + expression(app.function()) + ", "
+					+ expression(app.argument()) + ")";
+
+		if (term instanceof Term.Combinator combinator)
+			return Combinators.class.getName() + "." + combinator.name()
+					.toLowerCase(Locale.ROOT) + "()";
+
+		final Object value = ((Term.Lit) term).value();
+
+		if (!(value instanceof MethodHandleCompiler.Variable variable))
+			throw new IllegalArgumentException("Not a combinator: "
+									+ term);
+
+		return "x" + variable.index;
+	}
+
+	private void write(TypeElement type, List<TypeMirror> parameters,
+				TypeMirror result, String body) throws IOException
+	{
+		final String packageName = processingEnv.getElementUtils()
+			.getPackageOf(type)
+			.getQualifiedName()
+			.toString();
+		final Deque<String> names = new ArrayDeque<>();
+
+		for (Element enclosing = type;
+				enclosing instanceof TypeElement;
+				enclosing = enclosing.getEnclosingElement())
+			names.push(enclosing.getSimpleName().toString());
+
+		final String name = "Reduced_" + String.join("_", names);
+		final String access = (type.getModifiers()
+						.contains(Modifier.PUBLIC))
+			? "public "
+			: "";
+		final String variables = type.getTypeParameters().stream()
+			.map(Object::toString)
+			.collect(Collectors.joining(", "));
+		final String declared = type.getTypeParameters().stream()
+			.map(DerivationProcessor::declaration)
+			.collect(Collectors.joining(", "));
+		final String generic = (variables.isEmpty()) ? "" : "<" + variables
+									+ ">";
+		final String interfaceName = type.getQualifiedName() + generic;
+		final Types types = processingEnv.getTypeUtils();
+		final String cast = (body.startsWith("x") && types.isSameType(
+				parameters.get(Integer.parseInt(body.substring(1))),
+				result))
+			? ""
+			: "(" + result + ") ";
+		final StringBuilder lambdas = new StringBuilder();
+
+		for (int i = 1; i < parameters.size(); ++i)
+			lambdas.append('x').append(i).append(" -> ");
+
+		try (Writer writer = processingEnv.getFiler()
+				.createSourceFile(packageName + "." + name, type)
+				.openWriter()) {
+			writer.write("package " + packageName + ";\n\n"
+				+ "/**\n"
+				+ " * The reduced {@code "
+				+ type.getAnnotation(Derivation.class).value()
+				+ "} of {@link " + type.getQualifiedName()
+				+ "}.\n"
+				+ " */\n"
+				+ "@javax.annotation.processing.Generated(\""
+				+ DerivationProcessor.class.getName() + "\")\n"
+				+ access + "final class " + name
+				+ ((declared.isEmpty()) ? "" : "<" + declared
+									+ ">")
+				+ " implements " + interfaceName + "\n"
+				+ "{\n"
+				+ "\tprivate static final " + name
+				+ ((variables.isEmpty())
+					? ""
+					: "<" + type.getTypeParameters().stream()
+						.map(parameter -> "?")
+						.collect(Collectors.joining(
+								", "))
+						+ ">")
+				+ " INSTANCE = new " + name
+				+ ((variables.isEmpty()) ? "" : "<>") + "();\n\n"
+				+ "\tprivate " + name + "() { }\n\n"
+				+ "\t/**\n"
+				+ "\t * Returns the shared instance.\n"
+				+ "\t *\n"
+				+ type.getTypeParameters().stream()
+					.map(parameter -> "\t * @param <"
+						+ parameter + "> a type\n")
+					.collect(Collectors.joining())
+				+ "\t * @return a curried function\n"
+				+ "\t */\n"
+				+ "\t@SuppressWarnings(\"unchecked\")\n"
+				+ "\t" + access + "static "
+				+ ((declared.isEmpty()) ? "" : "<" + declared
+									+ "> ")
+				+ interfaceName + " instance()\n"
+				+ "\t{\n"
+				+ "\t\treturn (" + interfaceName + ") INSTANCE;\n"
+				+ "\t}\n\n"
+				+ "\t@Override\n"
+				+ "\t@SuppressWarnings(\"unchecked\")\n"
+				+ "\tpublic " + type(parameters, result, 1)
+				+ " apply(" + parameters.get(0) + " x0)\n"
+				+ "\t{\n"
+				+ "\t\treturn " + lambdas + cast + body + ";\n"
+				+ "\t}\n\n"
+				+ "\t@SuppressWarnings(\"unchecked\")\n"
+				+ "\tprivate static Object call(Object f, Object x)\n"
+				+ "\t{\n"
+				+ "\t\treturn ((" + FUNCTION
+				+ "<Object, Object>) f).apply(x);\n"
+				+ "\t}\n"
+				+ "}\n");
+		}
+	}
+
+	/* Writes the type of the function that takes the passed arguments on. */
+	private static String type(List<TypeMirror> parameters, TypeMirror result,
+								int from)
+	{
+		String type = result.toString();
+
+		for (int i = parameters.size() - 1; i >= from; --i)
+			type = FUNCTION + "<" + parameters.get(i) + ", " + type + ">";
+
+		return type;
+	}
+
+	private static String declaration(TypeParameterElement parameter)
+	{
+		final List<String> bounds = parameter.getBounds().stream()
+			.map(Object::toString)
+			.filter(bound -> !"java.lang.Object".equals(bound))
+			.collect(Collectors.toList());
+		return (bounds.isEmpty())
+			? parameter.toString()
+			: parameter + " extends " + String.join(" & ", bounds);
+	}
+}
@@ -0,0 +1,447 @@
+package org.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A registry of the extensionally equal implementations, or derivations,
+ * of a combinator, which picks the fastest of them for the running JVM.
+ * <p>
+ * E.g. {@link Combinators#t()}, {@link SC#szzsccfyx()}, and {@link
+ * StagedSC#szzsccfyx()} obtain functions that return the same value for
+ * the same arguments, but at costs that differ from one JDK version, and
+ * from one processor, to another.  The registry of {@link #interchange()}
+ * {@link #warmUp(int) warms up} and measures every derivation of {@code T}
+ * in turn, applying it to cheap arguments, and then serves the function
+ * of the derivation that took the least time, unless another derivation
+ * is {@link #pin(String) pinned}.
+ * <p>
+ * Every registry is a shared instance; since its functions are generic,
+ * it serves every parameterisation of its type.  A registry may be used
+ * by several threads: its measurements are serialised on it.
+ *
+ * @param <F> the type of the functions of the derivations
+ * @see SC
+ * @see StagedSC
+ */
+public final class Derivations<F>
+{
+	private static final int ROUNDS = 5;
+	private static final int DEFAULT_INVOCATIONS = 1 << 14;
+
+	private static final Derivations<?> IDENTITY = Derivations.identity_();
+	private static final Derivations<?> INTERCHANGE =
+						Derivations.interchange_();
+	private static final Derivations<?> COMPOSITION =
+						Derivations.composition_();
+	private static final Derivations<?> DUPLICATOR =
+						Derivations.duplicator_();
+
+	private final String combinator;
+	private final Function<F, Object> probe;
+	private final Map<String, Supplier<F>> derivations;
+	private volatile Choice<F> choice;
+	private volatile Object sink;
+
+	private Derivations(String combinator, Function<F, Object> probe,
+					Map<String, Supplier<F>> derivations)
+	{
+		this.combinator = combinator;
+		this.probe = probe;
+		this.derivations = Collections.unmodifiableMap(derivations);
+	}
+
+	/**
+	 * Returns the registry of the derivations of {@link Combinators#i()}.
+	 *
+	 * @param <A1> a type
+	 * @return a registry
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1> Derivations<Function<A1, A1>> identity()
+	{
+		return (Derivations<Function<A1, A1>>) IDENTITY;
+	}
+
+	/**
+	 * Returns the registry of the derivations of {@link Combinators#t()}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a registry
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Derivations<Function<Function<A1,
+					Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>>> interchange()
+	{
+		return (Derivations<Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>>>) INTERCHANGE;
+	}
+
+	/**
+	 * Returns the registry of the derivations of {@link Combinators#z()}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a registry
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Derivations<Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>>> composition()
+	{
+		return (Derivations<Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>>>) COMPOSITION;
+	}
+
+	/**
+	 * Returns the registry of the derivations of {@link Combinators#w()}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a registry
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Derivations<Function<Function<A1,
+					Function<A1, A2>>,
+				Function<A1, A2>>> duplicator()
+	{
+		return (Derivations<Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>>) DUPLICATOR;
+	}
+
+	/**
+	 * Returns the name of the combinator of this registry, e.g.
+	 * {@code "T"}.
+	 *
+	 * @return the name of a combinator
+	 */
+	public String combinator()		{ return combinator; }
+
+	/**
+	 * Returns the names of the derivations of this registry, e.g.
+	 * {@code "SC.szzsccfyx"}, in their order of registration.
+	 *
+	 * @return the names of the derivations
+	 */
+	public Set<String> names()		{ return derivations.keySet(); }
+
+	/**
+	 * Obtains the function of the named derivation.
+	 *
+	 * @param name the name of a derivation
+	 * @return a function
+	 * @throws IllegalArgumentException if there is no such derivation
+	 */
+	public F get(String name)		{ return supplier(name).get(); }
+
+	/**
+	 * Measures every derivation of this registry, unless a derivation is
+	 * pinned, and chooses the fastest of them.  Every derivation is
+	 * applied the passed number of times in each of several rounds, and
+	 * is ranked by its fastest round, so that a round disturbed by
+	 * compilation or by another thread is discounted.
+	 *
+	 * @param invocations the number of applications of a derivation in
+	 *	a round
+	 * @return the name of the chosen derivation
+	 * @throws IllegalArgumentException if the number of invocations is
+	 *	not positive
+	 */
+	public synchronized String warmUp(int invocations)
+	{
+		if (invocations < 1)
+			throw new IllegalArgumentException(Integer
+						.toString(invocations));
+
+		final Choice<F> pinned = choice;
+
+		if (pinned != null && pinned.pinned)
+			return pinned.name;
+
+		final List<String> names = new ArrayList<>(derivations.keySet());
+		final List<F> functions = new ArrayList<>(names.size());
+		final long[] fastest = new long[names.size()];
+
+		for (String name : names)
+			functions.add(derivations.get(name).get());
+
+		Arrays.fill(fastest, Long.MAX_VALUE);
+
+		/* Interleave the derivations, so that no one runs on a cold CPU. */
+		for (int round = 0; round < ROUNDS; ++round) {
+			for (int i = 0; i < fastest.length; ++i) {
+				final long elapsed = measure(functions.get(i),
+								invocations);
+
+				if (elapsed < fastest[i])
+					fastest[i] = elapsed;
+			}
+		}
+
+		int best = 0;
+
+		for (int i = 1; i < fastest.length; ++i) {
+			if (fastest[i] < fastest[best])
+				best = i;
+		}
+
+		choice = new Choice<>(names.get(best), functions.get(best), false);
+		return names.get(best);
+	}
+
+	/**
+	 * Returns the function of the chosen derivation of this registry,
+	 * {@link #warmUp(int) warming} this registry up first with a default
+	 * number of invocations, if no derivation is chosen yet.
+	 *
+	 * @return a function
+	 */
+	public F fastest()			{ return chosen().function; }
+
+	/**
+	 * Returns the name of the chosen derivation of this registry,
+	 * {@link #warmUp(int) warming} this registry up first with a default
+	 * number of invocations, if no derivation is chosen yet.
+	 *
+	 * @return the name of a derivation
+	 */
+	public String choice()			{ return chosen().name; }
+
+	/**
+	 * Chooses the named derivation of this registry, whatever its measured
+	 * cost, until another derivation is pinned or this registry is
+	 * {@link #unpin() unpinned}.
+	 *
+	 * @param name the name of a derivation
+	 * @throws IllegalArgumentException if there is no such derivation
+	 */
+	public synchronized void pin(String name)
+	{
+		choice = new Choice<>(name, supplier(name).get(), true);
+	}
+
+	/**
+	 * Forgets the chosen derivation of this registry, so that it is
+	 * measured again on its next use.
+	 */
+	public synchronized void unpin()	{ choice = null; }
+
+	/**
+	 * Returns whether the chosen derivation of this registry, if any, is
+	 * pinned.
+	 *
+	 * @return whether a derivation is pinned
+	 */
+	public boolean isPinned()
+	{
+		final Choice<F> chosen = choice;
+		return (chosen != null && chosen.pinned);
+	}
+
+	private Supplier<F> supplier(String name)
+	{
+		final Supplier<F> supplier = derivations.get(Objects
+						.requireNonNull(name, "name"));
+
+		if (supplier == null)
+			throw new IllegalArgumentException(name);
+
+		return supplier;
+	}
+
+	private Choice<F> chosen()
+	{
+		Choice<F> chosen = choice;
+
+		if (chosen == null) {
+			synchronized (this) {
+				if (choice == null)
+					warmUp(DEFAULT_INVOCATIONS);
+
+				chosen = choice;
+			}
+		}
+
+		return chosen;
+	}
+
+	private long measure(F function, int invocations)
+	{
+		Object value = null;
+		final long start = System.nanoTime();
+
+		for (int i = 0; i < invocations; ++i)
+			value = probe.apply(function);
+
+		final long elapsed = System.nanoTime() - start;
+		sink = value;			/* Keep the values alive. */
+		return elapsed;
+	}
+
+	private static Derivations<Function<Object, Object>> identity_()
+	{
+		final Object x = new Object();
+		final Map<String, Supplier<Function<Object, Object>>> derivations =
+							new LinkedHashMap<>();
+		derivations.put("Combinators.i", Combinators::i);
+		derivations.put("SC.cxx", SC::cxx);
+		derivations.put("SC.cxcx", SC::cxcx);
+		derivations.put("SC.sccx", SC::sccx);
+		derivations.put("SC.scc", SC::scc);
+		derivations.put("StagedSC.sccx", StagedSC::sccx);
+		derivations.put("StagedSC.scc", StagedSC::scc);
+		derivations.put("Specialized.scc", Specialized::scc);
+		return new Derivations<>("I", i -> i.apply(x), derivations);
+	}
+
+	private static Derivations<Function<Function<Object,
+					Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>>> interchange_()
+	{
+		final Function<Object, Function<Object, Object>> f =
+							x -> y -> y;
+		final Object x = new Object();
+		final Map<String, Supplier<Function<Function<Object,
+					Function<Object, Object>>,
+				Function<Object,
+				Function<Object, Object>>>>> derivations =
+							new LinkedHashMap<>();
+		derivations.put("Combinators.t", Combinators::t);
+		derivations.put("UncurriedCombinators.t", () ->
+			UncurriedCombinators.<Object, Object, Object>t()
+				.curried());
+		derivations.put("SC.fxcyx", SC::fxcyx);
+		derivations.put("SC.sfcyx", SC::sfcyx);
+		derivations.put("SC.zsfcyx", SC::zsfcyx);
+		derivations.put("SC.zzsfcyx", SC::zzsfcyx);
+		derivations.put("SC.zzsfccfyx", SC::zzsfccfyx);
+		derivations.put("SC.szzsccfyx", SC::szzsccfyx);
+		derivations.put("SC.szzscc", SC::szzscc);
+		derivations.put("SC.sscscscscscc", SC::sscscscscscc);
+		derivations.put("StagedSC.zsfcyx", StagedSC::zsfcyx);
+		derivations.put("StagedSC.zzsfcyx", StagedSC::zzsfcyx);
+		derivations.put("StagedSC.zzsfccfyx", StagedSC::zzsfccfyx);
+		derivations.put("StagedSC.szzsccfyx", StagedSC::szzsccfyx);
+		derivations.put("StagedSC.szzscc", StagedSC::szzscc);
+		derivations.put("StagedSC.sscscscscscc",
+						StagedSC::sscscscscscc);
+		derivations.put("Specialized.szzscc", Specialized::szzscc);
+		derivations.put("Specialized.sscscscscscc",
+						Specialized::sscscscscscc);
+		return new Derivations<>("T", t -> t
+				.apply(f)
+				.apply(x)
+				.apply(x),
+			derivations);
+	}
+
+	private static Derivations<Function<Function<Object, Object>,
+				Function<Function<Object, Object>,
+				Function<Object, Object>>>> composition_()
+	{
+		final Function<Object, Object> f = x -> x;
+		final Object x = new Object();
+		final Map<String, Supplier<Function<Function<Object, Object>,
+				Function<Function<Object, Object>,
+				Function<Object, Object>>>>> derivations =
+							new LinkedHashMap<>();
+		derivations.put("Combinators.z", Combinators::z);
+		derivations.put("UncurriedCombinators.z", () ->
+			UncurriedCombinators.<Object, Object, Object>z()
+				.curried());
+		derivations.put("SC.cfxgx", SC::cfxgx);
+		derivations.put("SC.scfgx", SC::scfgx);
+		derivations.put("SC.csfcfgx", SC::csfcfgx);
+		derivations.put("SC.scscfgx", SC::scscfgx);
+		derivations.put("SC.scsc", SC::scsc);
+		derivations.put("StagedSC.scfgx", StagedSC::scfgx);
+		derivations.put("StagedSC.csfcfgx", StagedSC::csfcfgx);
+		derivations.put("StagedSC.scscfgx", StagedSC::scscfgx);
+		derivations.put("StagedSC.scsc", StagedSC::scsc);
+		derivations.put("Specialized.scsc", Specialized::scsc);
+		return new Derivations<>("Z", z -> z
+				.apply(f)
+				.apply(f)
+				.apply(x),
+			derivations);
+	}
+
+	private static Derivations<Function<Function<Object,
+					Function<Object, Object>>,
+				Function<Object, Object>>> duplicator_()
+	{
+		final Function<Object, Function<Object, Object>> f =
+							x -> y -> y;
+		final Object x = new Object();
+		final Map<String, Supplier<Function<Function<Object,
+					Function<Object, Object>>,
+				Function<Object, Object>>>> derivations =
+							new LinkedHashMap<>();
+		derivations.put("Combinators.w", Combinators::w);
+		derivations.put("UncurriedCombinators.w", () ->
+			UncurriedCombinators.curried(
+				UncurriedCombinators.<Object, Object>w()));
+		derivations.put("SC.fxcxfx", SC::fxcxfx);
+		derivations.put("SC.fxscfx", SC::fxscfx);
+		derivations.put("SC.sfscfx", SC::sfscfx);
+		derivations.put("SC.ssscfx", SC::ssscfx);
+		derivations.put("SC.sssc", SC::sssc);
+		derivations.put("SC.tfxx", SC::tfxx);
+		derivations.put("SC.ttxfx", SC::ttxfx);
+		derivations.put("SC.tttxxf", SC::tttxxf);
+		derivations.put("SC.ttxttxf", SC::ttxttxf);
+		derivations.put("SC.sttttxf", SC::sttttxf);
+		derivations.put("SC.tsttttfx", SC::tsttttfx);
+		derivations.put("SC.tstttt", SC::tstttt);
+		derivations.put("StagedSC.sfscfx", StagedSC::sfscfx);
+		derivations.put("StagedSC.ssscfx", StagedSC::ssscfx);
+		derivations.put("StagedSC.sssc", StagedSC::sssc);
+		derivations.put("StagedSC.tfxx", StagedSC::tfxx);
+		derivations.put("StagedSC.ttxfx", StagedSC::ttxfx);
+		derivations.put("StagedSC.tttxxf", StagedSC::tttxxf);
+		derivations.put("StagedSC.ttxttxf", StagedSC::ttxttxf);
+		derivations.put("StagedSC.sttttxf", StagedSC::sttttxf);
+		derivations.put("StagedSC.tsttttfx", StagedSC::tsttttfx);
+		derivations.put("StagedSC.tstttt", StagedSC::tstttt);
+		derivations.put("Specialized.sssc", Specialized::sssc);
+		derivations.put("Specialized.tstttt", Specialized::tstttt);
+		derivations.put("SC.sscscscscscc_s_sscscscscscc_sscscscscscc"
+					+ "_sscscscscscc_sscscscscscc", SC::
+	sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc);
+		return new Derivations<>("W", w -> w
+				.apply(f)
+				.apply(x),
+			derivations);
+	}
+
+	/** A chosen derivation and its obtained function. */
+	private static final class Choice<F>
+	{
+		final String name;
+		final F function;
+		final boolean pinned;
+
+		Choice(String name, F function, boolean pinned)
+		{
+			this.name = name;
+			this.function = function;
+			this.pinned = pinned;
+		}
+	}
+}
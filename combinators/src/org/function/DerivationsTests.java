@@ -0,0 +1,124 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class DerivationsTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	/* Few enough for the allocations of every derivation to fit the heap. */
+	private static final int INVOCATIONS = 4;
+
+	private DerivationsTests() { /* No instantiation. */ }
+
+	static void testAgreement(boolean inConcurrence)
+	{
+		final Derivations<Function<String, String>> i =
+						Derivations.identity();
+		final Derivations<Function<Function<String,
+					Function<String, String>>,
+				Function<String,
+				Function<String, String>>>> t =
+						Derivations.interchange();
+		final Derivations<Function<Function<String, String>,
+				Function<Function<String, String>,
+				Function<String, String>>>> z =
+						Derivations.composition();
+		final Derivations<Function<Function<String,
+					Function<String, String>>,
+				Function<String, String>>> w =
+						Derivations.duplicator();
+		final Function<String, Function<String, String>> pair =
+							x -> y -> x + y;
+		assert i.names().size() == 8 && t.names().size() == 18
+				&& z.names().size() == 12
+				&& w.names().size() == 27;
+		assert i.names().stream()
+			.allMatch(name -> "x".equals(i.get(name).apply("x")));
+		assert t.names().stream()
+			.allMatch(name -> "yx".equals(t.get(name)
+				.apply(pair)
+				.apply("x")
+				.apply("y")));
+		assert z.names().stream()
+			.allMatch(name -> "((x))".equals(z.get(name)
+				.apply(x -> "(" + x + ")")
+				.apply(x -> "(" + x + ")")
+				.apply("x")));
+		assert w.names().stream()
+			.allMatch(name -> "xx".equals(w.get(name)
+				.apply(pair)
+				.apply("x")));
+		assert "T".equals(t.combinator());
+	}
+
+	static void testWarmUp(boolean inConcurrence)
+	{
+		final Derivations<Function<Function<Integer,
+					Function<Integer, Integer>>,
+				Function<Integer, Integer>>> w =
+						Derivations.duplicator();
+		final String name = w.warmUp(INVOCATIONS);
+		assert w.names().contains(name) && name.equals(w.choice());
+		assert !w.isPinned();
+		assert 1 == w.fastest()
+			.apply(x -> y -> x / y)
+			.apply(2);
+
+		try {
+			w.warmUp(0);
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void testPin(boolean inConcurrence)
+	{
+		final Derivations<Function<Function<String, String>,
+				Function<Function<String, String>,
+				Function<String, String>>>> z =
+						Derivations.composition();
+		z.pin("SC.scsc");
+		assert z.isPinned() && "SC.scsc".equals(z.choice());
+		assert "SC.scsc".equals(z.warmUp(INVOCATIONS));
+		assert "x".equals(z.fastest()
+			.apply(Combinators.i())
+			.apply(Combinators.i())
+			.apply("x"));
+		z.unpin();
+		assert !z.isPinned();
+		assert z.names().contains(z.warmUp(INVOCATIONS));
+
+		try {
+			z.pin("SC.sscscscscscc");
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testAgreement(concurrent),
+					concurrent -> testWarmUp(concurrent),
+					concurrent -> testPin(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
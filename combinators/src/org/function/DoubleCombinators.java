@@ -0,0 +1,118 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The combinators of {@link Combinators} specialised for {@code double} values,
+ * which are neither boxed nor unboxed when passed from one function to
+ * another.
+ *
+ * @see DoubleSC
+ */
+public class DoubleCombinators
+{
+	private DoubleCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes a {@code double} value and
+	 * returns the {@code double} value.
+	 *
+	 * @return a function
+	 * @see Combinators#i()
+	 */
+	public static DoubleUnaryOperator i()	{ return x -> x; }
+
+	/**
+	 * Returns a functional interface that takes a {@code double} value and
+	 * returns a functional interface that takes a {@code double} value and
+	 * returns the former {@code double} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#c()
+	 */
+	public static DoubleFunction<DoubleUnaryOperator> c()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code double} values, and returns a functional interface that takes
+	 * a {@code double} value and returns a functional interface that takes
+	 * a {@code double} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the former {@code double} value,
+	 * and returns a {@code double} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#t()
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleFunction<DoubleUnaryOperator>> t()
+	{
+		return f -> y -> x -> f
+			.apply(x)
+			.applyAsDouble(y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function of an
+	 * {@code double} value, and returns a functional interface that takes
+	 * a function of a {@code double} value, and returns a functional
+	 * interface that takes a {@code double} value and applies the rightmost
+	 * function to this value, obtaining a {@code double} value to which the
+	 * leftmost function is applied to, and returns a {@code double} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static Function<DoubleUnaryOperator,
+				Function<DoubleUnaryOperator,
+				DoubleUnaryOperator>> z()
+	{
+		return f -> g -> x -> f
+			.applyAsDouble(g
+				.applyAsDouble(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code double} values, and returns a functional interface that takes
+	 * a function of a {@code double} value, and returns a functional
+	 * interface that takes a {@code double} value and applies the leftmost
+	 * function to this value, obtaining another function to apply to the
+	 * {@code double} value obtained from applying the rightmost function to
+	 * the former {@code double} value, and returns a {@code double} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				Function<DoubleUnaryOperator,
+				DoubleUnaryOperator>> s()
+	{
+		return f -> g -> x -> f
+			.apply(x)
+			.applyAsDouble(g
+				.applyAsDouble(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code double} values, and returns a functional interface that takes
+	 * a {@code double} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the {@code double} value, and
+	 * returns a {@code double} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleUnaryOperator> w()
+	{
+		return f -> x -> f
+			.apply(x)
+			.applyAsDouble(x);
+	}
+}
@@ -0,0 +1,217 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The definitions of {@link SC} whose every intermediate value is either an
+ * {@code double} value or a function of {@code double} values, given in terms of
+ * {@link DoubleCombinators}.
+ * <p>
+ * The remaining definitions, e.g. {@code SCC}, apply combinators to
+ * combinators, and cannot be specialised for {@code double} values.
+ *
+ * @see SC
+ */
+public class DoubleSC
+{
+	private DoubleSC() { /* No instantiation. */ }
+
+	/* I D E N T I T Y. (C): 1 */
+
+	/**
+	 * The {@code Cxx} definition of the identity function.
+	 *
+	 * @return a function
+	 */
+	public static DoubleUnaryOperator cxx()
+	{
+		return x -> {
+			// (C(x))
+			final DoubleUnaryOperator f_ = DoubleCombinators
+				.c()
+				.apply(x);
+			return f_.applyAsDouble(x);
+		};
+	}	// (C(x)) (x)
+
+
+
+
+	/* I N T E R C H A N G E. (C, S): 2 */
+
+	/**
+	 * The {@code (fx)(Cyx)} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleFunction<DoubleUnaryOperator>> fxcyx()
+	{
+		return f -> y -> x -> {
+			// (f(x))
+			final DoubleUnaryOperator f_ = f.apply(x);
+
+			// (C(y))
+			final DoubleUnaryOperator g_ = DoubleCombinators
+				.c()
+				.apply(y);
+			return f_.applyAsDouble(g_
+					.applyAsDouble(x));
+		};
+	}	// (f(x)) ((C(y)) (x))
+
+	/**
+	 * The {@code (Sf)(Cy)x} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleFunction<DoubleUnaryOperator>> sfcyx()
+	{
+		return f -> y -> x -> {
+			// (S(f))
+			final Function<DoubleUnaryOperator,
+					DoubleUnaryOperator> f_ = DoubleCombinators
+				.s()
+				.apply(f);
+
+			// (C(y))
+			final DoubleUnaryOperator g_ = DoubleCombinators
+				.c()
+				.apply(y);
+
+			// ((S(f)) (C(y)))
+			final DoubleUnaryOperator h_ = f_.apply(g_);
+			return h_.applyAsDouble(x);
+		};
+	}	// ((S(f)) (C(y))) (x)
+
+
+
+
+	/* C O M P O S I T I O N. (C, S): 2 */
+
+	/**
+	 * The {@code (Cfx)(gx)} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleUnaryOperator,
+				Function<DoubleUnaryOperator,
+				DoubleUnaryOperator>> cfxgx()
+	{
+		return f -> g -> x -> {
+			// (g(x))
+			final double a2 = g.applyAsDouble(x);
+
+			// (C(f))
+			final DoubleFunction<DoubleUnaryOperator> f_ = DoubleSC
+				.<DoubleUnaryOperator>cf_()
+				.apply(f);
+
+			// ((C(f)) (x))
+			final DoubleUnaryOperator g_ = f_.apply(x);
+			return g_.applyAsDouble(a2);
+		};
+	}	// ((C(f)) (x)) (g(x))
+
+	/**
+	 * The {@code S(Cf)gx} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleUnaryOperator,
+				Function<DoubleUnaryOperator,
+				DoubleUnaryOperator>> scfgx()
+	{
+		return f -> g -> x -> {
+			// (C(f))
+			final DoubleFunction<DoubleUnaryOperator> f_ = DoubleSC
+				.<DoubleUnaryOperator>cf_()
+				.apply(f);
+
+			// (S(C(f)))
+			final Function<DoubleUnaryOperator,
+					DoubleUnaryOperator> g_ = DoubleCombinators
+				.s()
+				.apply(f_);
+			return g_.apply(g)
+				.applyAsDouble(x);
+		};
+	}	// ((S(C(f))) (g)) (x)
+
+
+
+
+	/* D U P L I C A T O R. (C; T): 1 + 1 */
+
+	/**
+	 * The {@code fx(Cx(fx))} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleUnaryOperator> fxcxfx()
+	{
+		return f -> x -> {
+			// (f(x))
+			final DoubleUnaryOperator f_ = f.apply(x);
+
+			// (C(x))
+			final ToDoubleFunction<DoubleUnaryOperator> g_ = DoubleSC
+				.<DoubleUnaryOperator>cx_()
+				.apply(x);
+
+			// ((C(x)) (f(x)))
+			final double a1 = g_.applyAsDouble(f_);
+			return f_.applyAsDouble(a1);
+		};
+	}	// (f(x)) ((C(x)) (f(x)))
+
+	/**
+	 * The {@code Tfxx} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<DoubleFunction<DoubleUnaryOperator>,
+				DoubleUnaryOperator> tfxx()
+	{
+		return f -> x -> DoubleCombinators
+			.t()
+			.apply(f)
+			.apply(x)
+			.applyAsDouble(x);
+	}	// ((T(f)) (x)) (x)
+
+
+
+
+	/* C O M B I N A T O R    F U N C T I O N S. */
+
+	/**
+	 * The constancy function of a {@code double} value and any value.
+	 *
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see DoubleCombinators#c()
+	 */
+	private static <A2> DoubleFunction<ToDoubleFunction<A2>> cx_()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * The constancy function of any value and a {@code double} value.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see DoubleCombinators#c()
+	 */
+	private static <A1> Function<A1, DoubleFunction<A1>> cf_()
+	{
+		return x -> y -> x;
+	}
+}
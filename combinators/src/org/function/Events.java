@@ -0,0 +1,176 @@
+package org.function;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder events of the evaluation of {@link Term terms}.
+ * <p>
+ * An {@link Evaluation} spans every normalisation or evaluation of a term
+ * by a {@link GraphReducer}, a {@link Machine}, an {@link Arena}, or the
+ * {@link Interpreter}; a {@link CacheHit} marks every normal form served
+ * by a {@link NormalFormCache}; and a {@link Fork} marks every application
+ * forked by {@link ParallelCombinators} or by a parallel {@link
+ * GraphReducer}.  So the work of combinators shows on the timeline of
+ * a recording, next to the collections and the contended locks that it
+ * may cause.
+ * <p>
+ * Every event is disabled by default, and is enabled by name, e.g. with
+ * a recording setting {@code org.function.Evaluation#enabled=true}.  No
+ * event class is loaded, and no event is allocated, until the recorder is
+ * initialised, which initialises the event framework too; until then, an
+ * evaluation costs no more than a test of a flag.  Afterwards, an event of
+ * a disabled type is allocated, but never committed.
+ */
+final class Events
+{
+	private static final String CATEGORY = "Combinators";
+
+	private Events() { /* No instantiation. */ }
+
+	/*
+	 * Returns a new evaluation event whose timing has begun, or null if
+	 * there is no recorder or if the event is disabled.
+	 */
+	static Evaluation evaluation()
+	{
+		if (!FlightRecorder.isInitialized())
+			return null;
+
+		final Evaluation event = new Evaluation();
+
+		if (!event.isEnabled())
+			return null;
+
+		event.begin();
+		return event;
+	}
+
+	/* Commits a cache hit event, if enabled. */
+	static void cacheHit(Term term, Term normalForm)
+	{
+		if (!FlightRecorder.isInitialized())
+			return;
+
+		final CacheHit event = new CacheHit();
+
+		if (event.shouldCommit()) {
+			event.size = term.size();
+			event.normalFormSize = normalForm.size();
+			event.commit();
+		}
+	}
+
+	/* Commits a fork event, if enabled. */
+	static void fork(long cost, boolean submitted)
+	{
+		if (!FlightRecorder.isInitialized())
+			return;
+
+		final Fork event = new Fork();
+
+		if (event.shouldCommit()) {
+			event.cost = cost;
+			event.submitted = submitted;
+			event.commit();
+		}
+	}
+
+	/**
+	 * The normalisation, or evaluation, of a term.
+	 */
+	@Name("org.function.Evaluation")
+	@Label("Evaluation")
+	@Description("The normalisation, or evaluation, of a term")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(false)
+	static final class Evaluation extends Event
+	{
+		@Label("Evaluator")
+		@Description("The class that evaluated the term")
+		String evaluator;
+
+		@Label("Term Size")
+		@Description("The number of combinator and literal"
+						+ " occurrences of the term")
+		long size;
+
+		@Label("Steps")
+		@Description("The number of redexes contracted by the evaluator"
+			+ " while the term was evaluated, or -1 if not counted")
+		long steps;
+
+		Evaluation()			{ }
+
+		/*
+		 * Ends the timing of this event, and commits it, if it lasted
+		 * long enough.
+		 */
+		void end(Class<?> evaluator, Term term, long steps)
+		{
+			if (!shouldCommit())
+				return;
+
+			this.evaluator = evaluator.getSimpleName();
+			this.size = term.size();
+			this.steps = steps;
+			commit();
+		}
+	}
+
+	/**
+	 * A normal form served by a cache in place of a reduction.
+	 */
+	@Name("org.function.CacheHit")
+	@Label("Cache Hit")
+	@Description("A normal form served by a cache in place of a reduction")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(false)
+	static final class CacheHit extends Event
+	{
+		@Label("Term Size")
+		@Description("The number of combinator and literal"
+						+ " occurrences of the term")
+		long size;
+
+		@Label("Normal Form Size")
+		@Description("The number of combinator and literal"
+				+ " occurrences of the served normal form")
+		long normalFormSize;
+
+		CacheHit()			{ }
+	}
+
+	/**
+	 * An application forked onto a pool of threads.
+	 */
+	@Name("org.function.Fork")
+	@Label("Fork")
+	@Description("An application forked onto a pool of threads")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(false)
+	static final class Fork extends Event
+	{
+		@Label("Cost")
+		@Description("The estimated cost of the forked application,"
+			+ " or a lower bound of it, e.g. the nodes of a graph"
+			+ " that were counted up to a threshold")
+		long cost;
+
+		@Label("Submitted")
+		@Description("Whether the application was submitted from outside"
+							+ " the pool")
+		boolean submitted;
+
+		Fork()				{ }
+	}
+}
@@ -0,0 +1,611 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A graph reducer of {@link Term terms}.
+ * <p>
+ * A term is loaded into a graph of nodes that preserves every sharing of
+ * its subterms, and a redex of the graph is overwritten with its contractum
+ * (by way of an indirection), so that an argument duplicated by {@code S}
+ * or {@code W} is reduced at most once, no matter how many references to
+ * it there are.
+ * <p>
+ * Reduction is in normal order: the leftmost outermost redex is contracted
+ * first.  A literal whose value is a function is applied to the value of
+ * its argument after the argument has been reduced to weak head normal
+ * form; if that argument is not a literal, the function is passed another
+ * function that applies the argument to a literal value and reduces it.
+ * Literal functions are assumed to be pure.
+ * <p>
+ * A graph may be shared by several threads: contracting the same redex
+ * concurrently does the same work twice but arrives at the same result.
+ * <p>
+ * A parallel reducer, see {@link #newInstance(ForkJoinPool, long)}, also
+ * forks the reduction of the application {@code gx} of every contracted
+ * {@code Sfgx} whose graph is not smaller than a threshold, while the
+ * calling thread goes on with {@code fx}; the application is joined when
+ * its value is needed.  The forked reduction is speculative: it may be
+ * wasted on an argument that {@code fx} discards, and it never ends for
+ * an argument that has no weak head normal form.  Whatever forked
+ * reduction has not started when the evaluation that forked it ends is
+ * cancelled; the evaluations that share a reducer, or a graph, cancel
+ * none of the forks of each other.
+ * <p>
+ * A caching reducer, see {@link #newInstance(NormalFormCache)}, keeps the
+ * normal form of every term that it {@link #normalize(Term) normalizes} in
+ * a cache, and loads the cached normal form of any term, or subterm of
+ * a term, that it reduces in place of that term, so that a hot set of
+ * terms applied to many arguments is reduced once.  Since literal functions
+ * are assumed to be pure, a cached normal form is a normal form of every
+ * term equal to its term.
+ *
+ * @see Term
+ */
+public final class GraphReducer
+{
+	private static final Node[] COMBINATORS = Node.combinators();
+	private static final ThreadLocal<Walk> WALKS =
+					ThreadLocal.withInitial(Walk::new);
+
+	private final LongAdder steps = new LongAdder();
+	private final ForkJoinPool pool;	/* Nullable. */
+	private final long threshold;
+	private final NormalFormCache cache;	/* Nullable. */
+
+	private GraphReducer(ForkJoinPool pool, long threshold,
+						NormalFormCache cache)
+	{
+		this.pool = pool;
+		this.threshold = threshold;
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns a new graph reducer.
+	 *
+	 * @return a new graph reducer
+	 */
+	public static GraphReducer newInstance()
+	{
+		return new GraphReducer(null, Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * Returns a new graph reducer that forks the reduction of the
+	 * application {@code gx} of every contracted {@code Sfgx} onto the
+	 * passed pool, whenever the graph of the application has at least as
+	 * many nodes as the passed threshold.
+	 *
+	 * @param pool a pool of threads
+	 * @param threshold the least number of nodes of a forked application
+	 * @return a new graph reducer
+	 */
+	public static GraphReducer newInstance(ForkJoinPool pool,
+							long threshold)
+	{
+		return new GraphReducer(Objects.requireNonNull(pool, "pool"),
+							threshold, null);
+	}
+
+	/**
+	 * Returns a new graph reducer that caches normal forms in the passed
+	 * cache.
+	 *
+	 * @param cache a cache of normal forms
+	 * @return a new graph reducer
+	 */
+	public static GraphReducer newInstance(NormalFormCache cache)
+	{
+		return new GraphReducer(null, Long.MAX_VALUE,
+				Objects.requireNonNull(cache, "cache"));
+	}
+
+	/**
+	 * Returns the number of redexes contracted so far by this reducer.
+	 *
+	 * @return the number of contracted redexes
+	 */
+	public long steps()			{ return steps.sum(); }
+
+	/**
+	 * Reduces the passed term to its normal form.  The reduction does not
+	 * terminate for a term that has no normal form.
+	 *
+	 * @param term a term
+	 * @return the normal form of the term, which shares every subterm
+	 *	that the reduced graph shares
+	 */
+	public Term normalize(Term term)	{ return normalize(term, true); }
+
+	/**
+	 * Reduces the passed term to its normal form, either with or without
+	 * the cache of this reducer, if any.  The reduction does not terminate
+	 * for a term that has no normal form.
+	 *
+	 * @param term a term
+	 * @param cached whether the cache of this reducer is used
+	 * @return the normal form of the term
+	 * @see #normalize(Term)
+	 */
+	public Term normalize(Term term, boolean cached)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final long before = (event == null) ? 0L : steps();
+		final Sparks sparks = sparks();
+
+		try {
+			return commit(event, term, before,
+					normalForm(term, cached, sparks));
+		} finally {
+			discard(sparks);
+		}
+	}
+
+	private Term normalForm(Term term, boolean cached, Sparks sparks)
+	{
+		if (!cached || cache == null)
+			return readBack(normalize(load(term, null), sparks));
+
+		final Term canonical = cache.canonical(term);
+		final Term known = cache.get(canonical);
+
+		if (known != null)
+			return known;
+
+		final Term normalForm = readBack(normalize(load(canonical,
+							cache), sparks));
+		cache.put(canonical, normalForm);
+		return normalForm;
+	}
+
+	/**
+	 * Reduces the passed term to its weak head normal form and returns
+	 * its value: either the value of a literal, or a function that applies
+	 * the reduced term to a literal value and evaluates the application.
+	 *
+	 * @param term a term
+	 * @return the value of the term
+	 */
+	public Object evaluate(Term term)	{ return evaluate(term, true); }
+
+	/**
+	 * Reduces the passed term to its weak head normal form, either with or
+	 * without the cache of this reducer, if any, and returns its value.
+	 * The cache is only read: a weak head normal form is not a normal
+	 * form, so only {@link #normalize(Term, boolean)} fills the cache.
+	 *
+	 * @param term a term
+	 * @param cached whether the cache of this reducer is used
+	 * @return the value of the term
+	 * @see #evaluate(Term)
+	 */
+	public Object evaluate(Term term, boolean cached)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final long before = (event == null) ? 0L : steps();
+		final Sparks sparks = sparks();
+
+		try {
+			return commit(event, term, before,
+				valueOf(whnf(load(term, cached), sparks)));
+		} finally {
+			discard(sparks);
+		}
+	}
+
+	/**
+	 * Returns a functional interface that takes a value {@code A1}, applies
+	 * the passed term to this value, and returns the value of the reduced
+	 * application.  Any reduction of the passed term is shared by every
+	 * application of the returned function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param term a term
+	 * @return a function
+	 * @see #evaluate(Term)
+	 */
+	@SuppressWarnings("unchecked")
+	public <A1, A2> Function<A1, A2> function(Term term)
+	{
+		final Node node = load(term, true);
+		return x -> (A2) apply(node, x);
+	}
+
+	/* Ends the event, if any, with the steps taken since it began. */
+	private <T> T commit(Events.Evaluation event, Term term, long before,
+								T value)
+	{
+		if (event != null)
+			event.end(GraphReducer.class, term, steps() - before);
+
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object valueOf(Node node)
+	{
+		if (node.leaf instanceof Term.Lit lit)
+			return lit.value();
+
+		return (Function<Object, Object>) x -> apply(node, x);
+	}
+
+	/* Applies the graph to a literal value and evaluates it. */
+	private Object apply(Node node, Object x)
+	{
+		final Sparks sparks = sparks();
+
+		try {
+			return valueOf(whnf(new Node(node,
+					new Node(Term.lit(x))), sparks));
+		} finally {
+			discard(sparks);
+		}
+	}
+
+	private Node whnf(Node root, Sparks sparks)
+	{
+		final ForkJoinTask<?> spark = root.spark;
+
+		if (spark != null) {
+			try {
+				spark.join();
+			} catch (final CancellationException discarded) {
+				/* Reduce it here instead. */
+			}
+		}
+
+		return reduce(root, sparks);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Node reduce(Node root, Sparks sparks)
+	{
+		final Deque<Node> spine = new ArrayDeque<>();
+		Node node = follow(root);
+
+		for (;;) {
+			if (node.leaf == null) {
+				spine.push(node);
+				node = follow(node.function);
+			} else if (node.leaf instanceof Term.Combinator combinator
+					&& spine.size() >= combinator.arity()) {
+				node = contract(combinator, spine, sparks);
+			} else if (node.leaf instanceof Term.Lit lit
+					&& lit.value() instanceof Function<?, ?> f
+					&& !spine.isEmpty()) {
+				final Node redex = spine.pop();
+				final Object value = ((Function<Object, ?>) f)
+					.apply(valueOf(whnf(redex.argument,
+								sparks)));
+				redex.forward = new Node(Term.lit(value));
+				steps.increment();
+				node = redex.forward;
+			} else {
+				return follow(root);
+			}
+		}
+	}
+
+	private Node contract(Term.Combinator combinator, Deque<Node> spine,
+							Sparks sparks)
+	{
+		Node redex = spine.pop();
+		final Node x = redex.argument;
+		final Node result;
+
+		switch (combinator) {
+		case I:		// Ix = x
+			result = x;
+			break;
+		case C:		// Cxy = x
+			redex = spine.pop();
+			result = x;
+			break;
+		case W:		// Wxy = xyy
+			redex = spine.pop();
+			result = new Node(new Node(x, redex.argument),
+							redex.argument);
+			break;
+		default:
+			final Node y = spine.pop().argument;
+			redex = spine.pop();
+			final Node z = redex.argument;
+
+			switch (combinator) {
+			case T:		// Txyz = xzy
+				result = new Node(new Node(x, z), y);
+				break;
+			case Z:		// Zxyz = x(yz)
+				result = new Node(x, new Node(y, z));
+				break;
+			case S:		// Sxyz = (xz)(yz)
+				final Node yz = new Node(y, z);
+
+				if (sparks != null) {
+					final long cost = cost(yz);
+
+					if (cost >= threshold)
+						spark(yz, cost, sparks);
+				}
+
+				result = new Node(new Node(x, z), yz);
+				break;
+			default:
+				throw new AssertionError(combinator);
+			}
+		}
+
+		redex.forward = result;
+		steps.increment();
+		return follow(result);
+	}
+
+	/* Returns the sparks of a new evaluation, or null if not parallel. */
+	private Sparks sparks()
+	{
+		return (pool == null) ? null : new Sparks();
+	}
+
+	private void spark(Node node, long cost, Sparks sparks)
+	{
+		final AtomicBoolean started = new AtomicBoolean();
+		final ForkJoinTask<?> spark = ParallelCombinators.fork(pool,
+					cost, () -> (sparks.ended
+						|| !started.compareAndSet(false,
+									true))
+				? null
+				: reduce(node, sparks));
+		sparks.pending.add(new Spark(spark, started));
+		node.spark = spark;
+	}
+
+	/*
+	 * Ends an evaluation: its every spark that has not started is
+	 * cancelled, since no value awaits it any more, and so is every spark
+	 * that a running spark of the evaluation forks afterwards.  A spark
+	 * that has started runs to its end, for whoever joins it.
+	 */
+	private static void discard(Sparks sparks)
+	{
+		if (sparks == null)
+			return;
+
+		sparks.ended = true;
+
+		for (Spark spark; (spark = sparks.pending.poll()) != null; ) {
+			if (spark.started.compareAndSet(false, true))
+				spark.task.cancel(false);
+		}
+	}
+
+	/*
+	 * Counts the distinct nodes of the graph, up to the threshold, which
+	 * makes the count a lower bound of the cost of a larger graph.
+	 */
+	private long cost(Node root)
+	{
+		final Walk walk = WALKS.get();
+		walk.pending.push(root);
+
+		while (!walk.pending.isEmpty()
+					&& walk.nodes.size() < threshold) {
+			final Node node = follow(walk.pending.pop());
+
+			if (walk.nodes.add(node) && node.leaf == null) {
+				walk.pending.push(node.function);
+				walk.pending.push(node.argument);
+			}
+		}
+
+		final long cost = walk.nodes.size();
+		walk.clear();
+		return cost;
+	}
+
+	private Node normalize(Node root, Sparks sparks)
+	{
+		final Set<Node> normal = Collections.newSetFromMap(
+						new IdentityHashMap<>());
+		final Deque<Node> pending = new ArrayDeque<>();
+		pending.push(root);
+
+		while (!pending.isEmpty()) {
+			final Node node = whnf(pending.pop(), sparks);
+
+			if (!normal.add(node))
+				continue;
+
+			for (Node spine = node; spine.leaf == null;
+					spine = follow(spine.function))
+				pending.push(spine.argument);
+		}
+
+		return follow(root);
+	}
+
+	private Node load(Term term, boolean cached)
+	{
+		if (!cached || cache == null)
+			return load(term, null);
+
+		final Term canonical = cache.canonical(term);
+		final Term known = cache.get(canonical);
+		return (known == null)
+			? load(canonical, cache)
+			: load(known, null);
+	}
+
+	/*
+	 * Loads the passed term, in which the cached normal form, if any, of
+	 * every application but the passed term is loaded in its place; the
+	 * term is canonical in the cache, if any, and so is every subterm.
+	 */
+	private static Node load(Term term, NormalFormCache cache)
+	{
+		final Map<Term, Node> nodes = new IdentityHashMap<>();
+		final Deque<Term> pending = new ArrayDeque<>();
+		pending.push(term);
+
+		while (!pending.isEmpty()) {
+			final Term next = pending.peek();
+			final Term known;
+
+			if (nodes.containsKey(next)) {
+				pending.pop();
+			} else if (cache != null && next != term
+					&& next instanceof Term.App
+					&& (known = cache.probe(next)) != null) {
+				nodes.put(pending.pop(), load(known, null));
+			} else if (next instanceof Term.App app) {
+				final Node function = nodes.get(app.function());
+				final Node argument = nodes.get(app.argument());
+
+				if (function == null)
+					pending.push(app.function());
+
+				if (argument == null)
+					pending.push(app.argument());
+
+				if (function != null && argument != null)
+					nodes.put(pending.pop(),
+						new Node(function, argument));
+			} else {
+				nodes.put(pending.pop(),
+					(next instanceof Term.Combinator combinator)
+						? COMBINATORS[combinator.ordinal()]
+						: new Node(next));
+			}
+		}
+
+		return nodes.get(term);
+	}
+
+	private static Term readBack(Node root)
+	{
+		final Map<Node, Term> terms = new IdentityHashMap<>();
+		final Deque<Node> pending = new ArrayDeque<>();
+		pending.push(follow(root));
+
+		while (!pending.isEmpty()) {
+			final Node next = pending.peek();
+
+			if (terms.containsKey(next)) {
+				pending.pop();
+			} else if (next.leaf == null) {
+				final Node function = follow(next.function);
+				final Node argument = follow(next.argument);
+				final Term left = terms.get(function);
+				final Term right = terms.get(argument);
+
+				if (left == null)
+					pending.push(function);
+
+				if (right == null)
+					pending.push(argument);
+
+				if (left != null && right != null)
+					terms.put(pending.pop(),
+						new Term.App(left, right));
+			} else {
+				terms.put(pending.pop(), next.leaf);
+			}
+		}
+
+		return terms.get(follow(root));
+	}
+
+	private static Node follow(Node node)
+	{
+		Node target = node;
+
+		while (target.forward != null)
+			target = target.forward;
+
+		while (node.forward != null && node.forward != target) {
+			final Node next = node.forward;
+			node.forward = target;	/* Compress the path. */
+			node = next;
+		}
+
+		return target;
+	}
+
+	/* The sparks forked by one evaluation and by its sparks. */
+	private static final class Sparks
+	{
+		final Queue<Spark> pending = new ConcurrentLinkedQueue<>();
+		volatile boolean ended;
+	}
+
+	/* A forked reduction, which is started at most once. */
+	private record Spark(ForkJoinTask<?> task, AtomicBoolean started) { }
+
+	/* The scratch sets of a thread that counts the cost of graphs. */
+	private static final class Walk
+	{
+		final Set<Node> nodes = Collections.newSetFromMap(
+						new IdentityHashMap<>());
+		final Deque<Node> pending = new ArrayDeque<>();
+
+		void clear()
+		{
+			nodes.clear();
+			pending.clear();
+		}
+	}
+
+	/**
+	 * A vertex of a graph: either a leaf or an application.
+	 */
+	private static final class Node
+	{
+		final Term leaf;	/* A combinator or a literal, or null. */
+		final Node function;
+		final Node argument;
+		Node forward;		/* The contractum of this redex. */
+		volatile ForkJoinTask<?> spark;	/* A forked reduction. */
+
+		Node(Term leaf)
+		{
+			this.leaf = leaf;
+			this.function = null;
+			this.argument = null;
+		}
+
+		Node(Node function, Node argument)
+		{
+			this.leaf = null;
+			this.function = function;
+			this.argument = argument;
+		}
+
+		static Node[] combinators()
+		{
+			final Term.Combinator[] combinators =
+						Term.Combinator.values();
+			final Node[] nodes = new Node[combinators.length];
+
+			for (Term.Combinator combinator : combinators)
+				nodes[combinator.ordinal()] = new Node(combinator);
+
+			return nodes;
+		}
+	}
+}
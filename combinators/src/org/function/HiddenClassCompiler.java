@@ -0,0 +1,618 @@
+package org.function;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A compiler of {@link Term terms} to hidden classes that implement
+ * {@link Function}, for terms that are only known at run time.
+ * <p>
+ * A term of arity <i>n</i> is applied to <i>n</i> variables and reduced to
+ * its normal form, as by a {@link MethodHandleCompiler}.  The normal form is
+ * then written as the bytecode of the {@code apply} method of a class of its
+ * own, which collects the first <i>n</i> - 1 arguments in new instances of
+ * the class, and evaluates the normal form when it is applied to the last
+ * argument: a variable is loaded from the collected arguments, a literal
+ * from a constant of the class, a combinator from its factory method of
+ * {@link Combinators}, and an application is an {@code invokeinterface} of
+ * {@link Function#apply(Object)}.  A subterm that the normal form shares is
+ * evaluated once, and kept in a local variable.  Since every term has its
+ * own class, every call site of a normal form is profiled, and inlined, for
+ * that term alone.
+ * <p>
+ * The class is {@link MethodHandles.Lookup#defineHiddenClass defined} as
+ * a hidden class, which is unloaded once its functions are no longer
+ * referenced.  Every compiled function is cached by the canonical term of
+ * the {@link TermFactory} of its compiler, as long as the canonical term is
+ * referenced elsewhere, so that a term is compiled once however many times
+ * it is built.  A compiler may be shared by several threads.
+ *
+ * @see MethodHandleCompiler
+ * @see TermFactory
+ */
+public final class HiddenClassCompiler
+{
+	/* The class file format of Java 5, which needs no stack map frames. */
+	private static final int MAJOR_VERSION = 49;
+	private static final int MAX_CODE = 65535;
+
+	private static final String FUNCTION = "java/util/function/Function";
+	private static final String OBJECT = "java/lang/Object";
+	private static final String OBJECTS = "[Ljava/lang/Object;";
+	private static final String NAME = MethodHandles.lookup().lookupClass()
+					.getPackageName().replace('.', '/')
+								+ "/Reduced";
+
+	private final TermFactory factory;
+	private final Map<Term, Function<?, ?>> functions = new WeakHashMap<>();
+
+	private HiddenClassCompiler(TermFactory factory)
+	{
+		this.factory = factory;
+	}
+
+	/**
+	 * Returns a new compiler of a new factory of canonical terms.
+	 *
+	 * @return a new compiler
+	 */
+	public static HiddenClassCompiler newInstance()
+	{
+		return new HiddenClassCompiler(TermFactory.newInstance());
+	}
+
+	/**
+	 * Returns a new compiler of the passed factory of canonical terms.
+	 *
+	 * @param factory a factory of canonical terms
+	 * @return a new compiler
+	 */
+	public static HiddenClassCompiler newInstance(TermFactory factory)
+	{
+		return new HiddenClassCompiler(Objects.requireNonNull(factory,
+								"factory"));
+	}
+
+	/**
+	 * Returns the compiled curried function of the passed term, applied to
+	 * as many arguments as its {@link MethodHandleCompiler#arity(Term)
+	 * arity}, compiling it first, unless it is cached.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param term a term
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the arity of the term is zero,
+	 *	or if it exceeds the maximum number of arguments of a method
+	 *	handle, or if its normal form is too large for a method
+	 */
+	@SuppressWarnings("unchecked")
+	public <A1, A2> Function<A1, A2> function(Term term)
+	{
+		final Term canonical = factory.intern(term);
+
+		synchronized (functions) {
+			final Function<?, ?> function = functions.get(canonical);
+
+			if (function != null)
+				return (Function<A1, A2>) function;
+		}
+
+		final Function<?, ?> compiled = compile(canonical);
+
+		synchronized (functions) {
+			final Function<?, ?> function = functions.putIfAbsent(
+							canonical, compiled);
+			return (Function<A1, A2>) ((function == null)
+				? compiled
+				: function);
+		}
+	}
+
+	/**
+	 * Returns the number of compiled functions cached by this compiler,
+	 * some of whose terms may be no longer referenced elsewhere and may be
+	 * about to be reclaimed.
+	 *
+	 * @return the number of cached functions
+	 */
+	public int size()
+	{
+		synchronized (functions) {
+			return functions.size();
+		}
+	}
+
+	private static Function<?, ?> compile(Term term)
+	{
+		final int arity = MethodHandleCompiler.arity(term);
+
+		if (arity == 0)
+			throw new IllegalArgumentException("Not a function");
+
+		final Assembler assembler = new Assembler(arity);
+		final byte[] bytes = assembler.assemble(
+				MethodHandleCompiler.normalForm(term, arity));
+
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.lookup()
+				.defineHiddenClass(bytes, true);
+			return (Function<?, ?>) lookup
+				.findConstructor(lookup.lookupClass(),
+					MethodType.methodType(void.class,
+							Object[].class,
+							Object[].class))
+				.invoke(new Object[0],
+					assembler.constants.toArray());
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	/**
+	 * A writer of the class file of a normal form.
+	 */
+	private static final class Assembler
+	{
+		/* Opcodes. */
+		private static final int ALOAD_0 = 0x2a;
+		private static final int ALOAD_1 = 0x2b;
+		private static final int ALOAD_2 = 0x2c;
+		private static final int ALOAD = 0x19;
+		private static final int ASTORE = 0x3a;
+		private static final int AALOAD = 0x32;
+		private static final int AASTORE = 0x53;
+		private static final int DUP = 0x59;
+		private static final int ICONST_1 = 0x04;
+		private static final int BIPUSH = 0x10;
+		private static final int SIPUSH = 0x11;
+		private static final int IADD = 0x60;
+		private static final int IF_ICMPGE = 0xa2;
+		private static final int ARETURN = 0xb0;
+		private static final int RETURN = 0xb1;
+		private static final int GETFIELD = 0xb4;
+		private static final int PUTFIELD = 0xb5;
+		private static final int INVOKESPECIAL = 0xb7;
+		private static final int INVOKESTATIC = 0xb8;
+		private static final int INVOKEINTERFACE = 0xb9;
+		private static final int NEW = 0xbb;
+		private static final int ARRAYLENGTH = 0xbe;
+		private static final int CHECKCAST = 0xc0;
+		private static final int WIDE = 0xc4;
+
+		/* Constant pool tags. */
+		private static final int UTF8 = 1;
+		private static final int CLASS = 7;
+		private static final int FIELDREF = 9;
+		private static final int METHODREF = 10;
+		private static final int INTERFACE_METHODREF = 11;
+		private static final int NAME_AND_TYPE = 12;
+
+		final List<Object> constants = new ArrayList<>();
+		private final int arity;
+		private final ByteArrayOutputStream pool =
+						new ByteArrayOutputStream();
+		private final Map<String, Integer> entries = new HashMap<>();
+		private final Map<Object, Integer> literals =
+						new IdentityHashMap<>();
+		private final Map<Term, Integer> shared = new IdentityHashMap<>();
+		private final Map<Term, Integer> locals = new IdentityHashMap<>();
+		private int count = 1;		/* Of the constant pool. */
+		private ByteArrayOutputStream code;
+		private int depth;		/* Of the operand stack. */
+		private int maxDepth;
+
+		Assembler(int arity)		{ this.arity = arity; }
+
+		byte[] assemble(Term normalForm)
+		{
+			final int thisClass = classOf(NAME);
+			final int superClass = classOf(OBJECT);
+			final int function = classOf(FUNCTION);
+			final int arguments = fieldOf(NAME, "a", OBJECTS);
+			final int literalValues = fieldOf(NAME, "k", OBJECTS);
+			final byte[] constructor = constructor(superClass,
+							arguments, literalValues);
+			final int constructorLocals = 3;
+			final int constructorDepth = maxDepth;
+			final byte[] apply = apply(thisClass, arguments,
+						literalValues, normalForm);
+			final int applyLocals = 2 + locals.size();
+
+			final ByteArrayOutputStream bytes =
+						new ByteArrayOutputStream();
+
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				final int init = utf8("<init>");
+				final int initType = utf8("([Ljava/lang/Object;"
+						+ "[Ljava/lang/Object;)V");
+				final int applyName = utf8("apply");
+				final int applyType = utf8("(Ljava/lang/Object;)"
+							+ "Ljava/lang/Object;");
+				final int codeName = utf8("Code");
+				final int a = utf8("a");
+				final int k = utf8("k");
+				final int objects = utf8(OBJECTS);
+				out.writeInt(0xcafebabe);
+				out.writeShort(0);
+				out.writeShort(MAJOR_VERSION);
+				out.writeShort(count);
+				pool.writeTo(out);
+				out.writeShort(0x0031);	/* Public final super. */
+				out.writeShort(thisClass);
+				out.writeShort(superClass);
+				out.writeShort(1);
+				out.writeShort(function);
+				out.writeShort(2);
+				writeField(out, a, objects);
+				writeField(out, k, objects);
+				out.writeShort(2);
+				writeMethod(out, init, initType, codeName,
+						constructorDepth,
+						constructorLocals,
+						constructor);
+				writeMethod(out, applyName, applyType, codeName,
+						maxDepth, applyLocals, apply);
+				out.writeShort(0);
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			return bytes.toByteArray();
+		}
+
+		/* new Reduced(Object[] a, Object[] k) */
+		private byte[] constructor(int superClass, int arguments,
+							int literalValues)
+		{
+			begin();
+			op(ALOAD_0, 1);
+			op(INVOKESPECIAL, -1);
+			u2(methodOf(METHODREF, OBJECT, "<init>", "()V"));
+			op(ALOAD_0, 1);
+			op(ALOAD_1, 1);
+			op(PUTFIELD, -2);
+			u2(arguments);
+			op(ALOAD_0, 1);
+			op(ALOAD_2, 1);
+			op(PUTFIELD, -2);
+			u2(literalValues);
+			op(RETURN, 0);
+			return code.toByteArray();
+		}
+
+		/*
+		 * apply(x): a.length < arity - 1
+		 *	? new Reduced(a + x, k)
+		 *	: the normal form of a + x
+		 */
+		private byte[] apply(int thisClass, int arguments,
+					int literalValues, Term normalForm)
+		{
+			begin();
+			loadArguments(arguments);
+			op(ARRAYLENGTH, 0);
+			push(arity - 1);
+			final int branch = code.size();
+			op(IF_ICMPGE, -2);
+			u2(0);			/* Patched below. */
+
+			op(NEW, 1);
+			u2(thisClass);
+			op(DUP, 1);
+			loadArguments(arguments);
+			loadArguments(arguments);
+			op(ARRAYLENGTH, 0);
+			op(ICONST_1, 1);
+			op(IADD, -1);
+			op(INVOKESTATIC, -1);
+			u2(methodOf(METHODREF, "java/util/Arrays", "copyOf",
+				"([Ljava/lang/Object;I)[Ljava/lang/Object;"));
+			op(DUP, 1);
+			loadArguments(arguments);
+			op(ARRAYLENGTH, 0);
+			op(ALOAD_1, 1);
+			op(AASTORE, -3);
+			op(ALOAD_0, 1);
+			op(GETFIELD, 0);
+			u2(literalValues);
+			op(INVOKESPECIAL, -3);
+			u2(methodOf(METHODREF, NAME, "<init>",
+				"([Ljava/lang/Object;[Ljava/lang/Object;)V"));
+			op(ARETURN, -1);
+
+			final int body = code.size();
+			depth = 0;
+			markShared(normalForm);
+			emit(normalForm, arguments, literalValues);
+			op(ARETURN, -1);
+
+			final byte[] bytes = code.toByteArray();
+			final int offset = body - branch;
+			bytes[branch + 1] = (byte) (offset >>> 8);
+			bytes[branch + 2] = (byte) offset;
+
+			if (bytes.length > MAX_CODE)
+				throw new IllegalArgumentException(
+							"Too large a term");
+
+			return bytes;
+		}
+
+		/* Marks every application that occurs more than once. */
+		private void markShared(Term root)
+		{
+			final Map<Term, Boolean> seen = new IdentityHashMap<>();
+			final List<Term> pending = new ArrayList<>();
+			pending.add(root);
+
+			while (!pending.isEmpty()) {
+				final Term next = pending.remove(pending.size()
+									- 1);
+
+				if (!(next instanceof Term.App app))
+					continue;
+
+				if (seen.put(next, Boolean.TRUE) != null) {
+					shared.putIfAbsent(next, shared.size());
+					continue;
+				}
+
+				pending.add(app.argument());
+				pending.add(app.function());
+			}
+		}
+
+		private void emit(Term term, int arguments, int literalValues)
+		{
+			final Integer local = locals.get(term);
+
+			if (local != null) {
+				load(local);
+			} else if (term instanceof Term.App app) {
+				emit(app.function(), arguments, literalValues);
+				op(CHECKCAST, 0);
+				u2(classOf(FUNCTION));
+				emit(app.argument(), arguments, literalValues);
+				op(INVOKEINTERFACE, -1);
+				u2(methodOf(INTERFACE_METHODREF, FUNCTION, "apply",
+					"(Ljava/lang/Object;)Ljava/lang/Object;"));
+				u1(2);
+				u1(0);
+
+				if (shared.containsKey(term)) {
+					final int index = 2 + locals.size();
+					locals.put(term, index);
+					op(DUP, 1);
+					store(index);
+				}
+			} else if (term instanceof Term.Combinator combinator) {
+				op(INVOKESTATIC, 1);
+				u2(methodOf(METHODREF,
+					Combinators.class.getName()
+						.replace('.', '/'),
+					combinator.name().toLowerCase(
+								Locale.ROOT),
+					"()Ljava/util/function/Function;"));
+			} else {
+				final Object value = ((Term.Lit) term).value();
+
+				if (value instanceof MethodHandleCompiler
+							.Variable variable
+						&& variable.index < arity - 1) {
+					loadArguments(arguments);
+					push(variable.index);
+					op(AALOAD, -1);
+				} else if (value instanceof MethodHandleCompiler
+							.Variable) {
+					op(ALOAD_1, 1);
+				} else {
+					final Object constant =
+						((MethodHandleCompiler.Constant)
+							value).value;
+					Integer index = literals.get(constant);
+
+					if (index == null) {
+						index = constants.size();
+						constants.add(constant);
+						literals.put(constant, index);
+					}
+
+					op(ALOAD_0, 1);
+					op(GETFIELD, 0);
+					u2(literalValues);
+					push(index);
+					op(AALOAD, -1);
+				}
+			}
+		}
+
+		private void loadArguments(int arguments)
+		{
+			op(ALOAD_0, 1);
+			op(GETFIELD, 0);
+			u2(arguments);
+		}
+
+		private void push(int value)
+		{
+			if (value == 1) {
+				op(ICONST_1, 1);
+			} else if (value <= Byte.MAX_VALUE) {
+				op(BIPUSH, 1);
+				u1(value);
+			} else if (value <= Short.MAX_VALUE) {
+				op(SIPUSH, 1);
+				u2(value);
+			} else {
+				throw new IllegalArgumentException(
+							"Too large a term");
+			}
+		}
+
+		private void load(int local)
+		{
+			if (local < 256) {
+				op(ALOAD, 1);
+				u1(local);
+			} else {
+				op(WIDE, 0);
+				u1(ALOAD);
+				u2(local);
+				grow(1);
+			}
+		}
+
+		private void store(int local)
+		{
+			if (local < 256) {
+				op(ASTORE, -1);
+				u1(local);
+			} else {
+				op(WIDE, 0);
+				u1(ASTORE);
+				u2(local);
+				grow(-1);
+			}
+		}
+
+		private void begin()
+		{
+			code = new ByteArrayOutputStream();
+			depth = 0;
+			maxDepth = 0;
+		}
+
+		private void op(int opcode, int effect)
+		{
+			code.write(opcode);
+			grow(effect);
+		}
+
+		private void grow(int effect)
+		{
+			depth += effect;
+			maxDepth = Math.max(maxDepth, depth);
+		}
+
+		private void u1(int value)	{ code.write(value); }
+
+		private void u2(int value)
+		{
+			code.write(value >>> 8);
+			code.write(value);
+		}
+
+		private static void writeField(DataOutputStream out, int name,
+					int descriptor) throws IOException
+		{
+			out.writeShort(0x0012);		/* Private final. */
+			out.writeShort(name);
+			out.writeShort(descriptor);
+			out.writeShort(0);
+		}
+
+		private static void writeMethod(DataOutputStream out, int name,
+				int descriptor, int codeName, int maxStack,
+				int maxLocals, byte[] code) throws IOException
+		{
+			out.writeShort(0x0001);		/* Public. */
+			out.writeShort(name);
+			out.writeShort(descriptor);
+			out.writeShort(1);
+			out.writeShort(codeName);
+			out.writeInt(12 + code.length);
+			out.writeShort(maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(code.length);
+			out.write(code);
+			out.writeShort(0);		/* No exception table. */
+			out.writeShort(0);		/* No attributes. */
+		}
+
+		private int utf8(String text)
+		{
+			return entry("U" + text, UTF8, out -> out.writeUTF(text));
+		}
+
+		private int classOf(String name)
+		{
+			final int utf8 = utf8(name);
+			return entry("C" + name, CLASS, out -> out.writeShort(utf8));
+		}
+
+		private int nameAndType(String name, String descriptor)
+		{
+			final int n = utf8(name);
+			final int d = utf8(descriptor);
+			return entry("N" + name + " " + descriptor, NAME_AND_TYPE,
+				out -> {
+					out.writeShort(n);
+					out.writeShort(d);
+				});
+		}
+
+		private int fieldOf(String owner, String name, String descriptor)
+		{
+			return memberOf(FIELDREF, owner, name, descriptor);
+		}
+
+		private int methodOf(int tag, String owner, String name,
+							String descriptor)
+		{
+			return memberOf(tag, owner, name, descriptor);
+		}
+
+		private int memberOf(int tag, String owner, String name,
+							String descriptor)
+		{
+			final int c = classOf(owner);
+			final int n = nameAndType(name, descriptor);
+			return entry(tag + owner + "." + name + descriptor, tag,
+				out -> {
+					out.writeShort(c);
+					out.writeShort(n);
+				});
+		}
+
+		private int entry(String key, int tag, Body body)
+		{
+			final Integer known = entries.get(key);
+
+			if (known != null)
+				return known;
+
+			try (DataOutputStream out = new DataOutputStream(pool)) {
+				out.writeByte(tag);
+				body.write(out);
+				out.flush();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			entries.put(key, count);
+			return count++;
+		}
+
+		/** The body of a constant pool entry. */
+		private interface Body
+		{
+			void write(DataOutputStream out) throws IOException;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class HiddenClassCompilerTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private HiddenClassCompilerTests() { /* No instantiation. */ }
+
+	/* A function that writes its applications, e.g. ((f x) y). */
+	private record Tracer(String name) implements Function<Object, Object>
+	{
+		@Override
+		public Object apply(Object x)
+		{
+			return new Tracer("(" + name + " " + x + ")");
+		}
+
+		@Override
+		public String toString()	{ return name; }
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object applyToTracers(Function<Object, Object> function,
+								int arity)
+	{
+		Object value = function;
+
+		for (int i = 0; i < arity; ++i)
+			value = ((Function<Object, Object>) value)
+				.apply(new Tracer("x" + i));
+
+		return value;
+	}
+
+	private static Term applyToTracers(Term term, int arity)
+	{
+		Term application = term;
+
+		for (int i = 0; i < arity; ++i)
+			application = Term.app(application,
+					Term.lit(new Tracer("x" + i)));
+
+		return application;
+	}
+
+	static void testAgreement(boolean inConcurrence)
+	{
+		final HiddenClassCompiler compiler = HiddenClassCompiler
+								.newInstance();
+		TermTests.DERIVATIONS.forEach((text, combinator) -> {
+			final int arity = combinator.arity();
+			assert applyToTracers(compiler.function(
+					Term.parse(text)), arity)
+				.toString()
+				.equals(applyToTracers(compiler.function(
+					combinator), arity)
+					.toString()) : text;
+		});
+
+		/* S(SW)xy = xy(y(xy))(y(xy)), whose y(xy) is shared. */
+		Set.of("S(SW)", "ZW", "S(CW)(ZW)", "W(SZ)")
+			.forEach(text -> {
+				final Term term = Term.parse(text);
+				final int arity = MethodHandleCompiler.arity(term);
+				assert applyToTracers(compiler.function(term), arity)
+					.toString()
+					.equals(Interpreter.evaluate(
+						applyToTracers(term, arity))
+						.toString()) : text;
+			});
+	}
+
+	static void testPartialApplication(boolean inConcurrence)
+	{
+		final Function<Function<Integer, Function<Integer, Integer>>,
+				Function<Integer,
+				Function<Integer, Integer>>> t =
+			HiddenClassCompiler.newInstance()
+				.function(Term.parse("S(ZZS)(CC)"));
+		final Function<Integer, Function<Integer, Integer>> subtract = t
+			.apply(x -> y -> x - y);
+		final Function<Integer, Integer> fromOne = subtract.apply(1);
+		final Function<Integer, Integer> fromTwo = subtract.apply(2);
+		assert 1 == fromOne.apply(2) && 2 == fromTwo.apply(4);
+		assert -1 == fromOne.apply(0) && 1 == fromOne.apply(2);
+	}
+
+	static void testConstants(boolean inConcurrence)
+	{
+		/* S<+>Ix = +x(Ix). */
+		final HiddenClassCompiler compiler = HiddenClassCompiler
+								.newInstance();
+		final Function<Integer, Function<Integer, Integer>> add =
+							x -> y -> x + y;
+		final Function<Integer, Integer> twice = compiler
+			.function(Term.app(Term.Combinator.S,
+				Term.lit(add),
+				Term.Combinator.I));
+		assert 2 == twice.apply(1) && 14 == twice.apply(7);
+
+		try {
+			compiler.function(Term.lit(1));
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void testCache(boolean inConcurrence)
+	{
+		final HiddenClassCompiler compiler = HiddenClassCompiler
+								.newInstance();
+		final Function<?, ?> t = compiler.function(Term.parse("S(ZZS)(CC)"));
+		assert t == compiler.function(Term.parse("S(ZZS)(CC)"));
+		assert t != compiler.function(Term.parse("S(CS)C"));
+		assert compiler.size() == 2;
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testAgreement(concurrent),
+					concurrent -> testPartialApplication(
+								concurrent),
+					concurrent -> testConstants(concurrent),
+					concurrent -> testCache(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,118 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The combinators of {@link Combinators} specialised for {@code int} values,
+ * which are neither boxed nor unboxed when passed from one function to
+ * another.
+ *
+ * @see IntSC
+ */
+public class IntCombinators
+{
+	private IntCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes an {@code int} value and
+	 * returns the {@code int} value.
+	 *
+	 * @return a function
+	 * @see Combinators#i()
+	 */
+	public static IntUnaryOperator i()	{ return x -> x; }
+
+	/**
+	 * Returns a functional interface that takes an {@code int} value and
+	 * returns a functional interface that takes an {@code int} value and
+	 * returns the former {@code int} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#c()
+	 */
+	public static IntFunction<IntUnaryOperator> c()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code int} values, and returns a functional interface that takes
+	 * an {@code int} value and returns a functional interface that takes
+	 * an {@code int} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the former {@code int} value,
+	 * and returns an {@code int} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#t()
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntFunction<IntUnaryOperator>> t()
+	{
+		return f -> y -> x -> f
+			.apply(x)
+			.applyAsInt(y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function of an
+	 * {@code int} value, and returns a functional interface that takes
+	 * a function of an {@code int} value, and returns a functional
+	 * interface that takes an {@code int} value and applies the rightmost
+	 * function to this value, obtaining an {@code int} value to which the
+	 * leftmost function is applied to, and returns an {@code int} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static Function<IntUnaryOperator,
+				Function<IntUnaryOperator,
+				IntUnaryOperator>> z()
+	{
+		return f -> g -> x -> f
+			.applyAsInt(g
+				.applyAsInt(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code int} values, and returns a functional interface that takes
+	 * a function of an {@code int} value, and returns a functional
+	 * interface that takes an {@code int} value and applies the leftmost
+	 * function to this value, obtaining another function to apply to the
+	 * {@code int} value obtained from applying the rightmost function to
+	 * the former {@code int} value, and returns an {@code int} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				Function<IntUnaryOperator,
+				IntUnaryOperator>> s()
+	{
+		return f -> g -> x -> f
+			.apply(x)
+			.applyAsInt(g
+				.applyAsInt(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code int} values, and returns a functional interface that takes
+	 * an {@code int} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the {@code int} value, and
+	 * returns an {@code int} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntUnaryOperator> w()
+	{
+		return f -> x -> f
+			.apply(x)
+			.applyAsInt(x);
+	}
+}
@@ -0,0 +1,217 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * The definitions of {@link SC} whose every intermediate value is either an
+ * {@code int} value or a function of {@code int} values, given in terms of
+ * {@link IntCombinators}.
+ * <p>
+ * The remaining definitions, e.g. {@code SCC}, apply combinators to
+ * combinators, and cannot be specialised for {@code int} values.
+ *
+ * @see SC
+ */
+public class IntSC
+{
+	private IntSC() { /* No instantiation. */ }
+
+	/* I D E N T I T Y. (C): 1 */
+
+	/**
+	 * The {@code Cxx} definition of the identity function.
+	 *
+	 * @return a function
+	 */
+	public static IntUnaryOperator cxx()
+	{
+		return x -> {
+			// (C(x))
+			final IntUnaryOperator f_ = IntCombinators
+				.c()
+				.apply(x);
+			return f_.applyAsInt(x);
+		};
+	}	// (C(x)) (x)
+
+
+
+
+	/* I N T E R C H A N G E. (C, S): 2 */
+
+	/**
+	 * The {@code (fx)(Cyx)} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntFunction<IntUnaryOperator>> fxcyx()
+	{
+		return f -> y -> x -> {
+			// (f(x))
+			final IntUnaryOperator f_ = f.apply(x);
+
+			// (C(y))
+			final IntUnaryOperator g_ = IntCombinators
+				.c()
+				.apply(y);
+			return f_.applyAsInt(g_
+					.applyAsInt(x));
+		};
+	}	// (f(x)) ((C(y)) (x))
+
+	/**
+	 * The {@code (Sf)(Cy)x} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntFunction<IntUnaryOperator>> sfcyx()
+	{
+		return f -> y -> x -> {
+			// (S(f))
+			final Function<IntUnaryOperator, IntUnaryOperator> f_ =
+								IntCombinators
+				.s()
+				.apply(f);
+
+			// (C(y))
+			final IntUnaryOperator g_ = IntCombinators
+				.c()
+				.apply(y);
+
+			// ((S(f)) (C(y)))
+			final IntUnaryOperator h_ = f_.apply(g_);
+			return h_.applyAsInt(x);
+		};
+	}	// ((S(f)) (C(y))) (x)
+
+
+
+
+	/* C O M P O S I T I O N. (C, S): 2 */
+
+	/**
+	 * The {@code (Cfx)(gx)} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntUnaryOperator,
+				Function<IntUnaryOperator,
+				IntUnaryOperator>> cfxgx()
+	{
+		return f -> g -> x -> {
+			// (g(x))
+			final int a2 = g.applyAsInt(x);
+
+			// (C(f))
+			final IntFunction<IntUnaryOperator> f_ = IntSC
+				.<IntUnaryOperator>cf_()
+				.apply(f);
+
+			// ((C(f)) (x))
+			final IntUnaryOperator g_ = f_.apply(x);
+			return g_.applyAsInt(a2);
+		};
+	}	// ((C(f)) (x)) (g(x))
+
+	/**
+	 * The {@code S(Cf)gx} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntUnaryOperator,
+				Function<IntUnaryOperator,
+				IntUnaryOperator>> scfgx()
+	{
+		return f -> g -> x -> {
+			// (C(f))
+			final IntFunction<IntUnaryOperator> f_ = IntSC
+				.<IntUnaryOperator>cf_()
+				.apply(f);
+
+			// (S(C(f)))
+			final Function<IntUnaryOperator, IntUnaryOperator> g_ =
+								IntCombinators
+				.s()
+				.apply(f_);
+			return g_.apply(g)
+				.applyAsInt(x);
+		};
+	}	// ((S(C(f))) (g)) (x)
+
+
+
+
+	/* D U P L I C A T O R. (C; T): 1 + 1 */
+
+	/**
+	 * The {@code fx(Cx(fx))} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntUnaryOperator> fxcxfx()
+	{
+		return f -> x -> {
+			// (f(x))
+			final IntUnaryOperator f_ = f.apply(x);
+
+			// (C(x))
+			final ToIntFunction<IntUnaryOperator> g_ = IntSC
+				.<IntUnaryOperator>cx_()
+				.apply(x);
+
+			// ((C(x)) (f(x)))
+			final int a1 = g_.applyAsInt(f_);
+			return f_.applyAsInt(a1);
+		};
+	}	// (f(x)) ((C(x)) (f(x)))
+
+	/**
+	 * The {@code Tfxx} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<IntFunction<IntUnaryOperator>,
+				IntUnaryOperator> tfxx()
+	{
+		return f -> x -> IntCombinators
+			.t()
+			.apply(f)
+			.apply(x)
+			.applyAsInt(x);
+	}	// ((T(f)) (x)) (x)
+
+
+
+
+	/* C O M B I N A T O R    F U N C T I O N S. */
+
+	/**
+	 * The constancy function of an {@code int} value and any value.
+	 *
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see IntCombinators#c()
+	 */
+	private static <A2> IntFunction<ToIntFunction<A2>> cx_()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * The constancy function of any value and an {@code int} value.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see IntCombinators#c()
+	 */
+	private static <A1> Function<A1, IntFunction<A1>> cf_()
+	{
+		return x -> y -> x;
+	}
+}
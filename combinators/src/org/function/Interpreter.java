@@ -0,0 +1,249 @@
+package org.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An interpreter of {@link Term terms} that dispatches on the variants of
+ * the sealed term type in one loop.
+ * <p>
+ * A function obtained from {@link Combinators} or {@link SC} is a tower of
+ * lambda classes, so that the {@code apply} call site of every combinator
+ * sees as many receiver classes as there are composed functions, and is
+ * megamorphic.  A term is rather evaluated by a single loop that switches
+ * on its {@link Term.Combinator combinators}, and that keeps its pending
+ * applications on an explicit stack of frames, so that there is one call
+ * site to profile and no Java stack to grow with the depth of a term.
+ * <p>
+ * Evaluation is strict and in the order of the closure encoding: the
+ * function of an application is evaluated before its argument, and the
+ * argument before it is passed on, e.g. {@code gx} is evaluated before it
+ * is passed to {@code fx} by {@code Sfgx}.  A combinator applied to fewer
+ * arguments than its arity is a value, which is a function whose
+ * application resumes evaluation, and a literal function is applied
+ * to the value of its argument.
+ *
+ * @see MethodHandleCompiler
+ */
+public final class Interpreter
+{
+	/* The kinds of pending frames, given a value and operands a and b. */
+	private static final int APPLY_TO = 0;		/* Apply value to a. */
+	private static final int ARGUMENT_OF = 1;	/* Apply a to value. */
+	private static final int EVALUATE = 2;		/* Apply value to term a. */
+	private static final int SHARE = 3;		/* Apply value to ab. */
+
+	private static final Partial[] PRIMITIVES;
+
+	static {
+		final Term.Combinator[] combinators = Term.Combinator.values();
+		PRIMITIVES = new Partial[combinators.length];
+
+		for (Term.Combinator combinator : combinators)
+			PRIMITIVES[combinator.ordinal()] = new Partial(combinator,
+								new Object[0]);
+	}
+
+	private Interpreter() { /* No instantiation. */ }
+
+	/**
+	 * Evaluates the passed term.  The evaluation does not terminate for
+	 * a term whose evaluation does not terminate in the closure encoding,
+	 * e.g. for {@code SII(SII)}.
+	 *
+	 * @param term a term
+	 * @return the value of a literal term, or the value of a literal
+	 *	function applied to the value of a term, or a function for
+	 *	a combinator applied to fewer arguments than its arity
+	 * @throws ClassCastException if a literal value that is not
+	 *	a function is applied
+	 */
+	public static Object evaluate(Term term)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final Object value = run(Objects.requireNonNull(term, "term"),
+								null, null);
+
+		/* Its steps are not counted. */
+		if (event != null)
+			event.end(Interpreter.class, term, -1L);
+
+		return value;
+	}
+
+	/**
+	 * Evaluates the passed term to a function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param term a term
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the value of the term is not
+	 *	a function
+	 * @throws ClassCastException if a literal value that is not
+	 *	a function is applied
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<A1, A2> function(Term term)
+	{
+		if (!(evaluate(term) instanceof Function<?, ?> function))
+			throw new IllegalArgumentException("Not a function");
+
+		return (Function<A1, A2>) function;
+	}
+
+	/*
+	 * Evaluates the passed term, if any, or else applies the passed
+	 * function to the passed argument, and then every pending frame to
+	 * the value so obtained.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object run(Term term, Object function, Object argument)
+	{
+		final Frames frames = new Frames();
+		Term next = term;
+		Object f = function;
+		Object x = argument;
+
+		for (;;) {
+			final Object value;
+
+			if (next instanceof Term.App app) {
+				frames.push(EVALUATE, app.argument(), null);
+				next = app.function();
+				continue;
+			} else if (next instanceof Term.Combinator combinator) {
+				value = PRIMITIVES[combinator.ordinal()];
+				next = null;
+			} else if (next != null) {
+				value = ((Term.Lit) next).value();
+				next = null;
+			} else if (!(f instanceof Partial partial)) {
+				value = ((Function<Object, Object>) f).apply(x);
+			} else if (partial.arguments.length + 1
+						< partial.combinator.arity()) {
+				value = partial.with(x);
+			} else {
+				final Object[] a = partial.arguments;
+
+				switch (partial.combinator) {
+				case I:		// Ix = x
+					value = x;
+					break;
+				case C:		// Cxy = x
+					value = a[0];
+					break;
+				case W:		// Wxy = xyy
+					frames.push(APPLY_TO, x, null);
+					f = a[0];
+					continue;
+				case T:		// Txyz = xzy
+					frames.push(APPLY_TO, a[1], null);
+					f = a[0];
+					continue;
+				case Z:		// Zxyz = x(yz)
+					frames.push(ARGUMENT_OF, a[0], null);
+					f = a[1];
+					continue;
+				case S:		// Sxyz = (xz)(yz)
+					frames.push(SHARE, a[1], x);
+					f = a[0];
+					continue;
+				default:
+					throw new AssertionError(partial.combinator);
+				}
+			}
+
+			if (frames.size == 0)
+				return value;
+
+			final int kind = frames.kind();
+			final Object first = frames.first();
+			final Object second = frames.second();
+			frames.pop();
+
+			switch (kind) {
+			case APPLY_TO:
+				f = value;
+				x = first;
+				break;
+			case ARGUMENT_OF:
+				f = first;
+				x = value;
+				break;
+			case EVALUATE:
+				frames.push(ARGUMENT_OF, value, null);
+				next = (Term) first;
+				break;
+			case SHARE:
+				frames.push(ARGUMENT_OF, value, null);
+				f = first;
+				x = second;
+				break;
+			default:
+				throw new AssertionError(kind);
+			}
+		}
+	}
+
+	/**
+	 * A combinator applied to fewer arguments than its arity, whose
+	 * application is interpreted.
+	 */
+	private record Partial(Term.Combinator combinator, Object[] arguments)
+				implements Function<Object, Object>
+	{
+		Partial with(Object x)
+		{
+			final int length = arguments.length;
+			final Object[] collected = Arrays.copyOf(arguments,
+								length + 1);
+			collected[length] = x;
+			return new Partial(combinator, collected);
+		}
+
+		@Override
+		public Object apply(Object x)		{ return run(null, this, x); }
+	}
+
+	/**
+	 * A stack of pending frames, each of a kind and of at most two
+	 * operands.
+	 */
+	private static final class Frames
+	{
+		private int[] kinds = new int[16];
+		private Object[] operands = new Object[32];
+		int size;
+
+		void push(int kind, Object first, Object second)
+		{
+			if (size == kinds.length) {
+				kinds = Arrays.copyOf(kinds, size << 1);
+				operands = Arrays.copyOf(operands, size << 2);
+			}
+
+			kinds[size] = kind;
+			operands[size << 1] = first;
+			operands[(size << 1) + 1] = second;
+			++size;
+		}
+
+		int kind()			{ return kinds[size - 1]; }
+
+		Object first()			{ return operands[(size - 1) << 1]; }
+
+		Object second()
+		{
+			return operands[((size - 1) << 1) + 1];
+		}
+
+		void pop()
+		{
+			--size;
+			operands[size << 1] = null;
+			operands[(size << 1) + 1] = null;
+		}
+	}
+}
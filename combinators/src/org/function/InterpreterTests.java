@@ -0,0 +1,120 @@
+package org.function;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class InterpreterTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	/* Far more nested applications than a small stack has frames for. */
+	private static final int DEPTH = 4096;
+
+	private static final Function<Object, Function<Object, Object>> PAIR =
+						x -> y -> "(" + x + " " + y + ")";
+	private static final Function<Object, Object> WRAP = x -> "(" + x + ")";
+	private static final Function<Integer, Integer> SUCC = x -> x + 1;
+
+	private InterpreterTests() { /* No instantiation. */ }
+
+	@SuppressWarnings("unchecked")
+	private static Object applyClosure(Function<?, ?> function,
+							Term... arguments)
+	{
+		Object value = function;
+
+		for (Term argument : arguments)
+			value = ((Function<Object, Object>) value)
+				.apply(((Term.Lit) argument).value());
+
+		return value;
+	}
+
+	static void testEvaluate(boolean inConcurrence)
+	{
+		final Map<Term.Combinator, Term[]> arguments = Map.of(
+			Term.Combinator.I, new Term[] { Term.lit(1) },
+			Term.Combinator.T, new Term[] {
+				Term.lit(PAIR), Term.lit(1), Term.lit(2) },
+			Term.Combinator.Z, new Term[] {
+				Term.lit(WRAP), Term.lit(WRAP), Term.lit(1) },
+			Term.Combinator.W, new Term[] {
+				Term.lit(PAIR), Term.lit(1) });
+		TermTests.DERIVATIONS.forEach((text, combinator) -> {
+			final Term[] applied = arguments.get(combinator);
+			final Object expected = applyClosure(
+					combinator.function(), applied);
+			assert expected.equals(Interpreter.evaluate(
+					Term.app(Term.parse(text),
+						applied)))
+				: text;
+			assert expected.equals(Interpreter.evaluate(
+					Term.app(combinator, applied)))
+				: text;
+		});
+		assert "(2 1)".equals(Interpreter.<Object, Function<Object,
+				Function<Object, Object>>>function(
+						Term.parse("S(ZZS)(CC)"))
+			.apply(PAIR)
+			.apply(1)
+			.apply(2));
+		assert Interpreter.evaluate(Term.parse("S(CS)"))
+						instanceof Function<?, ?>;
+
+		try {
+			Interpreter.function(Term.lit(1));
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+
+		try {
+			Interpreter.evaluate(Term.app(Term.lit(1), Term.lit(2)));
+			assert false;
+		} catch (final ClassCastException expected) { }
+	}
+
+	static void testDepth(boolean inConcurrence)
+	{
+		/* Z(+1)(Z(+1)(...I)), which is applied without recursion. */
+		final Term succ = Term.lit(SUCC);
+		Term tower = Term.Combinator.I;
+
+		for (int i = 0; i < DEPTH; ++i)
+			tower = Term.app(Term.Combinator.Z, succ, tower);
+
+		final Term term = tower;
+		assert Integer.valueOf(DEPTH).equals(TermTests
+			.inSmallStack(nothing -> Interpreter
+				.evaluate(Term.app(term, Term.lit(0)))));
+		assert Integer.valueOf(DEPTH).equals(TermTests
+			.inSmallStack(nothing -> Interpreter
+				.function(term)
+				.apply(0)));
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testEvaluate(concurrent),
+					concurrent -> testDepth(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
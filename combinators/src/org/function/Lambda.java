@@ -0,0 +1,202 @@
+package org.function;
+
+import java.util.Objects;
+
+/**
+ * A lambda term, that is, either a variable, an abstraction of a variable
+ * from a lambda term, an application of a lambda term to another lambda
+ * term, or a constant {@link Term combinatory term}.
+ * <p>
+ * Lambda terms are immutable and are translated into combinatory terms by
+ * {@link BracketAbstraction}.
+ *
+ * @see BracketAbstraction
+ */
+public sealed interface Lambda
+{
+	/**
+	 * Returns a variable of the passed name.
+	 *
+	 * @param name a name
+	 * @return a variable
+	 */
+	static Lambda var(String name)		{ return new Var(name); }
+
+	/**
+	 * Returns the abstraction of the passed variables, in turn, from the
+	 * passed body, e.g. {@code abs(body, "f", "x")} stands for
+	 * {@code \f.\x.body}.
+	 *
+	 * @param body a lambda term
+	 * @param parameters names of variables
+	 * @return an abstraction, or the passed body, if there are no
+	 *	parameters
+	 */
+	static Lambda abs(Lambda body, String... parameters)
+	{
+		Lambda lambda = Objects.requireNonNull(body, "body");
+
+		for (int i = parameters.length; i-- > 0; )
+			lambda = new Abs(parameters[i], lambda);
+
+		return lambda;
+	}
+
+	/**
+	 * Returns the application of a lambda term to the passed lambda terms,
+	 * in turn.
+	 *
+	 * @param function a lambda term
+	 * @param arguments lambda terms
+	 * @return an application, or the passed function, if there are no
+	 *	arguments
+	 */
+	static Lambda app(Lambda function, Lambda... arguments)
+	{
+		Lambda lambda = Objects.requireNonNull(function, "function");
+
+		for (Lambda argument : arguments)
+			lambda = new App(lambda, argument);
+
+		return lambda;
+	}
+
+	/**
+	 * Returns a constant lambda term for the passed combinatory term.
+	 *
+	 * @param term a combinatory term
+	 * @return a constant lambda term
+	 */
+	static Lambda of(Term term)		{ return new Const(term); }
+
+	/**
+	 * A variable.
+	 */
+	final class Var implements Lambda
+	{
+		private final String name;
+
+		Var(String name)
+		{
+			this.name = Objects.requireNonNull(name, "name");
+		}
+
+		/**
+		 * Returns the name of this variable.
+		 *
+		 * @return the name of this variable
+		 */
+		public String name()		{ return name; }
+
+		@Override
+		public String toString()	{ return name; }
+	}
+
+	/**
+	 * An abstraction of a variable from a lambda term.
+	 */
+	final class Abs implements Lambda
+	{
+		private final String parameter;
+		private final Lambda body;
+
+		Abs(String parameter, Lambda body)
+		{
+			this.parameter = Objects.requireNonNull(parameter,
+								"parameter");
+			this.body = Objects.requireNonNull(body, "body");
+		}
+
+		/**
+		 * Returns the name of the abstracted variable.
+		 *
+		 * @return the name of the abstracted variable
+		 */
+		public String parameter()	{ return parameter; }
+
+		/**
+		 * Returns the lambda term abstracted from.
+		 *
+		 * @return the lambda term abstracted from
+		 */
+		public Lambda body()		{ return body; }
+
+		@Override
+		public String toString()
+		{
+			return new StringBuilder()
+				.append("(\\")
+				.append(parameter)
+				.append('.')
+				.append(body)
+				.append(')')
+				.toString();
+		}
+	}
+
+	/**
+	 * An application of a lambda term to another lambda term.
+	 */
+	final class App implements Lambda
+	{
+		private final Lambda function;
+		private final Lambda argument;
+
+		App(Lambda function, Lambda argument)
+		{
+			this.function = Objects.requireNonNull(function,
+								"function");
+			this.argument = Objects.requireNonNull(argument,
+								"argument");
+		}
+
+		/**
+		 * Returns the applied lambda term.
+		 *
+		 * @return the applied lambda term
+		 */
+		public Lambda function()	{ return function; }
+
+		/**
+		 * Returns the lambda term applied to.
+		 *
+		 * @return the lambda term applied to
+		 */
+		public Lambda argument()	{ return argument; }
+
+		@Override
+		public String toString()
+		{
+			return new StringBuilder()
+				.append('(')
+				.append(function)
+				.append(' ')
+				.append(argument)
+				.append(')')
+				.toString();
+		}
+	}
+
+	/**
+	 * A constant combinatory term.
+	 */
+	final class Const implements Lambda
+	{
+		private final Term term;
+
+		Const(Term term)
+		{
+			this.term = Objects.requireNonNull(term, "term");
+		}
+
+		/**
+		 * Returns the combinatory term of this constant.
+		 *
+		 * @return the combinatory term of this constant
+		 */
+		public Term term()		{ return term; }
+
+		@Override
+		public String toString()	{ return term.toString(); }
+	}
+}
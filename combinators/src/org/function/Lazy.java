@@ -0,0 +1,83 @@
+package org.function;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A memoised thunk, that is, a suspended computation of a value that is
+ * run at most once, when its value is first needed, and whose value is
+ * kept for every later need.
+ * <p>
+ * A thunk may be forced by several threads: one of them runs the
+ * computation while the others wait for its value.
+ *
+ * @param <A1> the type of the value
+ * @see LazyCombinators
+ */
+public final class Lazy<A1> implements Supplier<A1>
+{
+	private volatile Supplier<? extends A1> computation;	/* Nullable. */
+	private A1 value;
+
+	private Lazy(Supplier<? extends A1> computation, A1 value)
+	{
+		this.value = value;
+		this.computation = computation;
+	}
+
+	/**
+	 * Returns a thunk of the passed computation.
+	 *
+	 * @param <A1> a type
+	 * @param computation a computation
+	 * @return a thunk
+	 */
+	public static <A1> Lazy<A1> of(Supplier<? extends A1> computation)
+	{
+		return new Lazy<>(Objects.requireNonNull(computation,
+						"computation"), null);
+	}
+
+	/**
+	 * Returns a forced thunk of the passed value.
+	 *
+	 * @param <A1> a type
+	 * @param value a value
+	 * @return a thunk
+	 */
+	public static <A1> Lazy<A1> value(A1 value)
+	{
+		return new Lazy<>(null, value);
+	}
+
+	/**
+	 * Returns whether the computation of this thunk was run.
+	 *
+	 * @return whether this thunk was forced
+	 */
+	public boolean isForced()		{ return (computation == null); }
+
+	/**
+	 * Returns the value of this thunk, running its computation if it was
+	 * not run before.
+	 *
+	 * @return the value of this thunk
+	 */
+	@Override
+	public A1 get()
+	{
+		if (computation != null) {
+			synchronized (this) {
+				final Supplier<? extends A1> computation =
+							this.computation;
+
+				if (computation != null) {
+					value = computation.get();
+					this.computation = null;  /* Publish. */
+				}
+			}
+		}
+
+		return value;
+	}
+}
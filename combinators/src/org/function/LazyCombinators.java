@@ -0,0 +1,145 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * The combinators of {@link Combinators} for functions whose arguments
+ * and values are {@link Lazy thunks}, i.e. the combinators of call by
+ * need.
+ * <p>
+ * No combinator forces an argument: {@link #c()} discards its second
+ * argument unforced, and {@link #z()} and {@link #s()} pass on the
+ * application of {@code g} as another thunk, which is only run if it is
+ * forced by {@code f}.  Since a thunk is run at most once, an argument
+ * that {@link #s()} or {@link #w()} passes on to more than one place is
+ * computed at most once.
+ *
+ * @see Combinators
+ * @see Lazy
+ */
+public class LazyCombinators
+{
+	private LazyCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes a thunk {@code A1} and
+	 * returns the thunk.
+	 *
+	 * @param <A1> a type
+	 * @return a function
+	 * @see Combinators#i()
+	 */
+	public static <A1> Function<Lazy<A1>, Lazy<A1>> i()
+	{
+		return x -> x;
+	}
+
+	/**
+	 * Returns a functional interface that takes a thunk {@code A1}, and
+	 * returns a functional interface that takes a thunk {@code A2}, which
+	 * is never forced, and returns the {@code A1} thunk.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see Combinators#c()
+	 */
+	public static <A1, A2> Function<Lazy<A1>,
+					Function<Lazy<A2>, Lazy<A1>>> c()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function, and
+	 * returns a functional interface that takes a thunk {@code A2}, and
+	 * returns a functional interface that takes a thunk {@code A1} and
+	 * applies the to-left function to this thunk, obtaining another
+	 * function to apply to the {@code A2} thunk, and returns a thunk
+	 * {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#t()
+	 */
+	public static <A1, A2, A3> Function<Function<Lazy<A1>,
+					Function<Lazy<A2>, Lazy<A3>>>,
+					Function<Lazy<A2>,
+					Function<Lazy<A1>, Lazy<A3>>>> t()
+	{
+		return f -> y -> x -> f
+			.apply(x)
+			.apply(y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function, and returns
+	 * a functional interface that takes a function, and returns
+	 * a functional interface that takes a thunk {@code A1} and applies the
+	 * leftmost function to the thunk of the application of the rightmost
+	 * function to the {@code A1} thunk, and returns a thunk {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static <A1, A2, A3> Function<Function<Lazy<A2>, Lazy<A3>>,
+					Function<Function<Lazy<A1>, Lazy<A2>>,
+					Function<Lazy<A1>, Lazy<A3>>>> z()
+	{
+		return f -> g -> x -> f
+			.apply(Lazy.of(() -> g
+				.apply(x)
+				.get()));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function, and
+	 * returns a functional interface that takes a function, and returns
+	 * a functional interface that takes a thunk {@code A1} and applies the
+	 * leftmost function to this thunk, obtaining another function to apply
+	 * to the thunk of the application of the rightmost function to the
+	 * {@code A1} thunk, and returns a thunk {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<Function<Lazy<A1>,
+					Function<Lazy<A2>, Lazy<A3>>>,
+					Function<Function<Lazy<A1>, Lazy<A2>>,
+					Function<Lazy<A1>, Lazy<A3>>>> s()
+	{
+		return f -> g -> x -> f
+			.apply(x)
+			.apply(Lazy.of(() -> g
+				.apply(x)
+				.get()));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function, and
+	 * returns a functional interface that takes a thunk {@code A1} and
+	 * applies the to-left function to this thunk, obtaining another
+	 * function to apply to the same thunk, and returns a thunk {@code A2}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<Function<Lazy<A1>,
+					Function<Lazy<A1>, Lazy<A2>>>,
+					Function<Lazy<A1>, Lazy<A2>>> w()
+	{
+		return f -> x -> f
+			.apply(x)
+			.apply(x);
+	}
+}
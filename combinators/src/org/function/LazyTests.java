@@ -0,0 +1,124 @@
+package org.function;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class LazyTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private LazyTests() { /* No instantiation. */ }
+
+	private static <A1> Lazy<A1> unneeded()
+	{
+		return Lazy.of(() -> {
+			throw new AssertionError("forced");
+		});
+	}
+
+	static void testThunk(boolean inConcurrence)
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		final Lazy<Integer> x = Lazy.of(runs::incrementAndGet);
+		assert !x.isForced();
+		assert x.get() == 1 && x.get() == 1 && x.isForced();
+		assert Lazy.value(".").isForced();
+
+		/* Threads that force a thunk at once run it once. */
+		final Lazy<Integer> shared = Lazy.of(runs::incrementAndGet);
+		assert Stream.of(0, 1, 2, 3)
+			.parallel()
+			.map(i -> shared.get())
+			.distinct()
+			.count() == 1L;
+		assert runs.get() == 2;
+	}
+
+	static void testC(boolean inConcurrence)
+	{
+		assert ".".equals(LazyCombinators.<String, String>c()
+			.apply(Lazy.value("."))
+			.apply(unneeded())
+			.get());
+
+		/* Z(C(x))(g)(y), where (g y) is discarded. */
+		assert ".".equals(LazyCombinators.<String, String, String>z()
+			.apply(LazyCombinators.<String, String>c()
+				.apply(Lazy.value(".")))
+			.apply(y -> unneeded())
+			.apply(unneeded())
+			.get());
+	}
+
+	static void testSharing(boolean inConcurrence)
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		final Function<Lazy<Integer>,
+				Function<Lazy<Integer>, Lazy<Integer>>> adder =
+			x -> y -> Lazy.of(() -> x.get() + y.get());
+
+		/* S(+)(square)(x), where x is computed once. */
+		final Lazy<Integer> three = Lazy.of(() -> {
+			runs.incrementAndGet();
+			return 3;
+		});
+		assert LazyCombinators.<Integer, Integer, Integer>s()
+			.apply(adder)
+			.apply(x -> Lazy.of(() -> x.get() * x.get()))
+			.apply(three)
+			.get() == 12;
+		assert runs.get() == 1;
+
+		/* W(+)(x), where x is computed once. */
+		final Lazy<Integer> two = Lazy.of(() -> {
+			runs.incrementAndGet();
+			return 2;
+		});
+		assert LazyCombinators.<Integer, Integer>w()
+			.apply(adder)
+			.apply(two)
+			.get() == 4;
+		assert runs.get() == 2;
+
+		/* SC(g)(x), where (g x) is discarded. */
+		assert LazyCombinators.<Integer, Integer, Integer>s()
+			.apply(LazyCombinators.<Integer, Integer>c())
+			.apply(x -> unneeded())
+			.apply(three)
+			.get() == 3;
+		assert ".".equals(LazyCombinators.<String, String, String>t()
+			.apply(LazyCombinators.<String, String>c())
+			.apply(unneeded())
+			.apply(LazyCombinators.<String>i()
+				.apply(Lazy.value(".")))
+			.get());
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testThunk(concurrent),
+					concurrent -> testC(concurrent),
+					concurrent -> testSharing(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,118 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The combinators of {@link Combinators} specialised for {@code long} values,
+ * which are neither boxed nor unboxed when passed from one function to
+ * another.
+ *
+ * @see LongSC
+ */
+public class LongCombinators
+{
+	private LongCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes a {@code long} value and
+	 * returns the {@code long} value.
+	 *
+	 * @return a function
+	 * @see Combinators#i()
+	 */
+	public static LongUnaryOperator i()	{ return x -> x; }
+
+	/**
+	 * Returns a functional interface that takes a {@code long} value and
+	 * returns a functional interface that takes a {@code long} value and
+	 * returns the former {@code long} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#c()
+	 */
+	public static LongFunction<LongUnaryOperator> c()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code long} values, and returns a functional interface that takes
+	 * a {@code long} value and returns a functional interface that takes
+	 * a {@code long} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the former {@code long} value,
+	 * and returns a {@code long} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#t()
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongFunction<LongUnaryOperator>> t()
+	{
+		return f -> y -> x -> f
+			.apply(x)
+			.applyAsLong(y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function of an
+	 * {@code long} value, and returns a functional interface that takes
+	 * a function of a {@code long} value, and returns a functional
+	 * interface that takes a {@code long} value and applies the rightmost
+	 * function to this value, obtaining a {@code long} value to which the
+	 * leftmost function is applied to, and returns a {@code long} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static Function<LongUnaryOperator,
+				Function<LongUnaryOperator,
+				LongUnaryOperator>> z()
+	{
+		return f -> g -> x -> f
+			.applyAsLong(g
+				.applyAsLong(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code long} values, and returns a functional interface that takes
+	 * a function of a {@code long} value, and returns a functional
+	 * interface that takes a {@code long} value and applies the leftmost
+	 * function to this value, obtaining another function to apply to the
+	 * {@code long} value obtained from applying the rightmost function to
+	 * the former {@code long} value, and returns a {@code long} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				Function<LongUnaryOperator,
+				LongUnaryOperator>> s()
+	{
+		return f -> g -> x -> f
+			.apply(x)
+			.applyAsLong(g
+				.applyAsLong(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function of two
+	 * {@code long} values, and returns a functional interface that takes
+	 * a {@code long} value and applies the to-left function to this value,
+	 * obtaining another function to apply to the {@code long} value, and
+	 * returns a {@code long} value.
+	 *
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongUnaryOperator> w()
+	{
+		return f -> x -> f
+			.apply(x)
+			.applyAsLong(x);
+	}
+}
@@ -0,0 +1,217 @@
+package org.function;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * The definitions of {@link SC} whose every intermediate value is either an
+ * {@code long} value or a function of {@code long} values, given in terms of
+ * {@link LongCombinators}.
+ * <p>
+ * The remaining definitions, e.g. {@code SCC}, apply combinators to
+ * combinators, and cannot be specialised for {@code long} values.
+ *
+ * @see SC
+ */
+public class LongSC
+{
+	private LongSC() { /* No instantiation. */ }
+
+	/* I D E N T I T Y. (C): 1 */
+
+	/**
+	 * The {@code Cxx} definition of the identity function.
+	 *
+	 * @return a function
+	 */
+	public static LongUnaryOperator cxx()
+	{
+		return x -> {
+			// (C(x))
+			final LongUnaryOperator f_ = LongCombinators
+				.c()
+				.apply(x);
+			return f_.applyAsLong(x);
+		};
+	}	// (C(x)) (x)
+
+
+
+
+	/* I N T E R C H A N G E. (C, S): 2 */
+
+	/**
+	 * The {@code (fx)(Cyx)} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongFunction<LongUnaryOperator>> fxcyx()
+	{
+		return f -> y -> x -> {
+			// (f(x))
+			final LongUnaryOperator f_ = f.apply(x);
+
+			// (C(y))
+			final LongUnaryOperator g_ = LongCombinators
+				.c()
+				.apply(y);
+			return f_.applyAsLong(g_
+					.applyAsLong(x));
+		};
+	}	// (f(x)) ((C(y)) (x))
+
+	/**
+	 * The {@code (Sf)(Cy)x} definition of the interchange function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongFunction<LongUnaryOperator>> sfcyx()
+	{
+		return f -> y -> x -> {
+			// (S(f))
+			final Function<LongUnaryOperator, LongUnaryOperator> f_ =
+								LongCombinators
+				.s()
+				.apply(f);
+
+			// (C(y))
+			final LongUnaryOperator g_ = LongCombinators
+				.c()
+				.apply(y);
+
+			// ((S(f)) (C(y)))
+			final LongUnaryOperator h_ = f_.apply(g_);
+			return h_.applyAsLong(x);
+		};
+	}	// ((S(f)) (C(y))) (x)
+
+
+
+
+	/* C O M P O S I T I O N. (C, S): 2 */
+
+	/**
+	 * The {@code (Cfx)(gx)} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongUnaryOperator,
+				Function<LongUnaryOperator,
+				LongUnaryOperator>> cfxgx()
+	{
+		return f -> g -> x -> {
+			// (g(x))
+			final long a2 = g.applyAsLong(x);
+
+			// (C(f))
+			final LongFunction<LongUnaryOperator> f_ = LongSC
+				.<LongUnaryOperator>cf_()
+				.apply(f);
+
+			// ((C(f)) (x))
+			final LongUnaryOperator g_ = f_.apply(x);
+			return g_.applyAsLong(a2);
+		};
+	}	// ((C(f)) (x)) (g(x))
+
+	/**
+	 * The {@code S(Cf)gx} definition of the composition function.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongUnaryOperator,
+				Function<LongUnaryOperator,
+				LongUnaryOperator>> scfgx()
+	{
+		return f -> g -> x -> {
+			// (C(f))
+			final LongFunction<LongUnaryOperator> f_ = LongSC
+				.<LongUnaryOperator>cf_()
+				.apply(f);
+
+			// (S(C(f)))
+			final Function<LongUnaryOperator, LongUnaryOperator> g_ =
+								LongCombinators
+				.s()
+				.apply(f_);
+			return g_.apply(g)
+				.applyAsLong(x);
+		};
+	}	// ((S(C(f))) (g)) (x)
+
+
+
+
+	/* D U P L I C A T O R. (C; T): 1 + 1 */
+
+	/**
+	 * The {@code fx(Cx(fx))} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongUnaryOperator> fxcxfx()
+	{
+		return f -> x -> {
+			// (f(x))
+			final LongUnaryOperator f_ = f.apply(x);
+
+			// (C(x))
+			final ToLongFunction<LongUnaryOperator> g_ = LongSC
+				.<LongUnaryOperator>cx_()
+				.apply(x);
+
+			// ((C(x)) (f(x)))
+			final long a1 = g_.applyAsLong(f_);
+			return f_.applyAsLong(a1);
+		};
+	}	// (f(x)) ((C(x)) (f(x)))
+
+	/**
+	 * The {@code Tfxx} definition of the elementary duplicator.
+	 *
+	 * @return a curried function
+	 */
+	public static Function<LongFunction<LongUnaryOperator>,
+				LongUnaryOperator> tfxx()
+	{
+		return f -> x -> LongCombinators
+			.t()
+			.apply(f)
+			.apply(x)
+			.applyAsLong(x);
+	}	// ((T(f)) (x)) (x)
+
+
+
+
+	/* C O M B I N A T O R    F U N C T I O N S. */
+
+	/**
+	 * The constancy function of a {@code long} value and any value.
+	 *
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see LongCombinators#c()
+	 */
+	private static <A2> LongFunction<ToLongFunction<A2>> cx_()
+	{
+		return x -> y -> x;
+	}
+
+	/**
+	 * The constancy function of any value and a {@code long} value.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see LongCombinators#c()
+	 */
+	private static <A1> Function<A1, LongFunction<A1>> cf_()
+	{
+		return x -> y -> x;
+	}
+}
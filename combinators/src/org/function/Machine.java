@@ -0,0 +1,393 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An abstract machine that reduces {@link Term terms} with an explicit
+ * spine, in the manner of the Krivine machine.
+ * <p>
+ * The machine unwinds the spine of the term in its head position onto an
+ * argument stack until it finds a primitive combinator, and contracts the
+ * combinator with as many arguments as its arity pops off the stack.
+ * A term is in weak head normal form when its head is a literal or
+ * a combinator that has fewer arguments than its arity; it is in normal
+ * form when, in addition, its arguments are in normal form, which are
+ * then reduced in turn.  Every stack is kept in the heap, so that a term
+ * of millions of nodes is reduced in bounded Java stack.
+ * <p>
+ * The {@link Strategy strategy} of a machine decides how an argument that
+ * is duplicated by {@code S} or {@code W} is reduced:
+ * <ul>
+ * <li>{@link Strategy#NORMAL_ORDER} reduces every copy of the argument
+ * that is needed, i.e. it is call by name;
+ * <li>{@link Strategy#CALL_BY_NEED} pushes an update frame whenever it
+ * enters an argument, and overwrites the argument with its weak head
+ * normal form when it reaches that form, so that the copies of an argument
+ * are reduced at most once.
+ * </ul>
+ * Unlike a {@link GraphReducer}, a machine does not apply literal
+ * functions: every literal is an irreducible constant.
+ *
+ * @see GraphReducer
+ */
+public final class Machine
+{
+	private final Strategy strategy;
+	private final LongAdder steps = new LongAdder();
+	private final LongAdder unwinds = new LongAdder();
+	private final LongAdder updates = new LongAdder();
+
+	private Machine(Strategy strategy)	{ this.strategy = strategy; }
+
+	/**
+	 * Returns a new machine of the passed strategy.
+	 *
+	 * @param strategy a strategy of reduction
+	 * @return a new machine
+	 */
+	public static Machine newInstance(Strategy strategy)
+	{
+		return new Machine(Objects.requireNonNull(strategy, "strategy"));
+	}
+
+	/**
+	 * Returns the strategy of this machine.
+	 *
+	 * @return the strategy of this machine
+	 */
+	public Strategy strategy()		{ return strategy; }
+
+	/**
+	 * Returns the number of redexes contracted so far by this machine.
+	 *
+	 * @return the number of contracted redexes
+	 */
+	public long steps()			{ return steps.sum(); }
+
+	/**
+	 * Returns the number of applications unwound onto the argument stack
+	 * so far by this machine.
+	 *
+	 * @return the number of unwound applications
+	 */
+	public long unwinds()			{ return unwinds.sum(); }
+
+	/**
+	 * Returns the number of arguments overwritten with their weak head
+	 * normal forms so far by this machine.
+	 *
+	 * @return the number of updates
+	 */
+	public long updates()			{ return updates.sum(); }
+
+	/**
+	 * Reduces the passed term to its normal form.  The reduction does not
+	 * terminate for a term that has no normal form.
+	 *
+	 * @param term a term
+	 * @return the normal form of the term
+	 */
+	public Term normalize(Term term)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final long before = (event == null) ? 0L : steps();
+
+		/* Normalise the arguments of every head without recursion. */
+		final Deque<Frame> frames = new ArrayDeque<>();
+		frames.push(whnf(new Cell(Objects.requireNonNull(term, "term"))));
+		Term normal = null;
+
+		for (;;) {
+			final Frame frame = frames.peek();
+
+			if (normal != null) {
+				frame.normal[frame.next++] = normal;
+				normal = null;
+			}
+
+			if (frame.next < frame.arguments.length) {
+				frames.push(whnf(frame.arguments[frame.next]));
+				continue;
+			}
+
+			frames.pop();
+			normal = Term.app(frame.head, frame.normal);
+
+			if (frames.isEmpty())
+				return commit(event, term, before, normal);
+		}
+	}
+
+	/**
+	 * Reduces the passed term to its weak head normal form.
+	 *
+	 * @param term a term
+	 * @return the weak head normal form of the term
+	 */
+	public Term whnf(Term term)
+	{
+		final Events.Evaluation event = Events.evaluation();
+		final long before = (event == null) ? 0L : steps();
+		final Frame frame = whnf(new Cell(Objects.requireNonNull(term,
+								"term")));
+
+		for (Cell argument : frame.arguments)
+			frame.normal[frame.next++] = argument.readBack();
+
+		return commit(event, term, before,
+				Term.app(frame.head, frame.normal));
+	}
+
+	/* Ends the event, if any, with the steps taken since it began. */
+	private Term commit(Events.Evaluation event, Term term, long before,
+								Term value)
+	{
+		if (event != null)
+			event.end(Machine.class, term, steps() - before);
+
+		return value;
+	}
+
+	private Frame whnf(Cell root)
+	{
+		final Stack stack = new Stack();
+		final Deque<Update> updates = new ArrayDeque<>();
+		Cell head = root;
+		enter(head, stack, updates);
+
+		for (;;) {
+			if (head.term instanceof Term.App app) {
+				stack.push(new Cell(app.argument()));
+				head = new Cell(app.function());
+				unwinds.increment();
+				continue;
+			}
+
+			if (head.term == null) {
+				stack.push(head.argument);
+				head = head.function;
+				unwinds.increment();
+				continue;
+			}
+
+			final Update update = updates.peek();
+			final int depth = (update == null) ? 0 : update.depth;
+
+			if (head.term instanceof Term.Combinator combinator
+					&& stack.size - depth >= combinator.arity()) {
+				head = contract(combinator, stack);
+				steps.increment();
+				enter(head, stack, updates);
+				continue;
+			}
+
+			if (update == null)
+				return new Frame(head.term, stack.popAll());
+
+			/* The entered argument is in weak head normal form. */
+			updates.pop();
+			update.cell.update(head.term, stack.peekAbove(depth));
+			this.updates.increment();
+		}
+	}
+
+	private void enter(Cell cell, Stack stack, Deque<Update> updates)
+	{
+		if (strategy == Strategy.CALL_BY_NEED && !cell.isLeaf())
+			updates.push(new Update(cell, stack.size));
+	}
+
+	private static Cell contract(Term.Combinator combinator, Stack stack)
+	{
+		final Cell x = stack.pop();
+
+		switch (combinator) {
+		case I:		// Ix = x
+			return x;
+		case C:		// Cxy = x
+			stack.pop();
+			return x;
+		case W:		// Wxy = xyy
+			final Cell w = stack.peek();
+			stack.push(w);
+			return x;
+		default:
+			final Cell y = stack.pop();
+			final Cell z = stack.pop();
+
+			switch (combinator) {
+			case T:		// Txyz = xzy
+				stack.push(y);
+				stack.push(z);
+				return x;
+			case Z:		// Zxyz = x(yz)
+				stack.push(new Cell(y, z));
+				return x;
+			case S:		// Sxyz = (xz)(yz)
+				stack.push(new Cell(y, z));
+				stack.push(z);
+				return x;
+			default:
+				throw new AssertionError(combinator);
+			}
+		}
+	}
+
+	/**
+	 * The strategies of reduction.
+	 */
+	public enum Strategy
+	{
+		/** The leftmost outermost redex is contracted first. */
+		NORMAL_ORDER,
+
+		/**
+		 * The leftmost outermost redex is contracted first, and every
+		 * entered argument is overwritten with its weak head normal
+		 * form.
+		 */
+		CALL_BY_NEED
+	}
+
+	/**
+	 * A closure: either a term, or an application of a closure to another
+	 * closure, or, after an update, a leaf applied to closures.
+	 */
+	private static final class Cell
+	{
+		Term term;	/* Null for an application of closures. */
+		Cell function;
+		Cell argument;
+
+		Cell(Term term)			{ this.term = term; }
+
+		Cell(Cell function, Cell argument)
+		{
+			this.function = function;
+			this.argument = argument;
+		}
+
+		boolean isLeaf()
+		{
+			return (term instanceof Term.Combinator
+						|| term instanceof Term.Lit);
+		}
+
+		/* Overwrites this closure with a leaf applied to closures. */
+		void update(Term leaf, Cell[] arguments)
+		{
+			Cell cell = new Cell(leaf);
+
+			for (Cell argument : arguments)
+				cell = new Cell(cell, argument);
+
+			term = cell.term;
+			function = cell.function;
+			argument = cell.argument;
+		}
+
+		Term readBack()
+		{
+			final Deque<Cell> pending = new ArrayDeque<>();
+			final Deque<Term> terms = new ArrayDeque<>();
+			pending.push(this);
+
+			/* Read the closures back in postorder without recursion. */
+			while (!pending.isEmpty()) {
+				final Cell cell = pending.pop();
+
+				if (cell == null) {
+					final Term argument = terms.pop();
+					terms.push(Term.app(terms.pop(), argument));
+				} else if (cell.term != null) {
+					terms.push(cell.term);
+				} else {
+					pending.push(null);
+					pending.push(cell.argument);
+					pending.push(cell.function);
+				}
+			}
+
+			return terms.pop();
+		}
+	}
+
+	/** An entered argument to overwrite, and the depth of its arguments. */
+	private static final class Update
+	{
+		final Cell cell;
+		final int depth;
+
+		Update(Cell cell, int depth)
+		{
+			this.cell = cell;
+			this.depth = depth;
+		}
+	}
+
+	/** A head in weak head normal form and its arguments. */
+	private static final class Frame
+	{
+		final Term head;
+		final Cell[] arguments;
+		final Term[] normal;
+		int next;
+
+		Frame(Term head, Cell[] arguments)
+		{
+			this.head = head;
+			this.arguments = arguments;
+			this.normal = new Term[arguments.length];
+		}
+	}
+
+	/**
+	 * A stack of arguments, the first argument of the head on top.
+	 */
+	private static final class Stack
+	{
+		private Cell[] cells = new Cell[16];
+		int size;
+
+		void push(Cell cell)
+		{
+			if (size == cells.length)
+				cells = Arrays.copyOf(cells, size << 1);
+
+			cells[size++] = cell;
+		}
+
+		Cell pop()
+		{
+			final Cell cell = cells[--size];
+			cells[size] = null;
+			return cell;
+		}
+
+		Cell peek()			{ return cells[size - 1]; }
+
+		/* Returns the arguments above the depth, the first argument first. */
+		Cell[] peekAbove(int depth)
+		{
+			final Cell[] arguments = new Cell[size - depth];
+
+			for (int i = 0; i < arguments.length; ++i)
+				arguments[i] = cells[size - 1 - i];
+
+			return arguments;
+		}
+
+		/* Pops every argument, the first argument first. */
+		Cell[] popAll()
+		{
+			final Cell[] arguments = peekAbove(0);
+			Arrays.fill(cells, 0, size, null);
+			size = 0;
+			return arguments;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class MachineTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	/* Far more nodes than a small stack has frames for. */
+	private static final int DEPTH = 4096;
+
+	private MachineTests() { /* No instantiation. */ }
+
+	static void testNormalize(boolean inConcurrence)
+	{
+		for (Machine.Strategy strategy : Machine.Strategy.values()) {
+			final Machine machine = Machine.newInstance(strategy);
+			TermTests.DERIVATIONS.forEach((text, combinator) -> {
+				assert machine
+					.normalize(TermTests.applyToHoles(
+						Term.parse(text),
+						combinator.arity()))
+					.equals(machine
+						.normalize(TermTests
+							.applyToHoles(
+								combinator,
+								combinator
+								.arity())))
+					: text;
+			});
+			assert machine.steps() > 0L && machine.unwinds() > 0L;
+			assert Term.parse("S(CS)C").equals(machine
+				.normalize(Term.parse("I(S(CS)C)")));
+			assert Term.parse("S(C(I))").equals(machine
+				.whnf(Term.parse("S(C(I))")));
+		}
+	}
+
+	static void testSharing(boolean inConcurrence)
+	{
+		/* WT(I(I(I<0>))), whose argument is duplicated. */
+		final Term term = Term.app(Term.Combinator.W,
+				Term.Combinator.T,
+				Term.app(Term.Combinator.I,
+					Term.app(Term.Combinator.I,
+						Term.app(Term.Combinator.I,
+							Term.lit(0)))));
+		final Term normal = Term.app(Term.Combinator.T, Term.lit(0),
+							Term.lit(0));
+		final Machine byName = Machine.newInstance(
+					Machine.Strategy.NORMAL_ORDER);
+		final Machine byNeed = Machine.newInstance(
+					Machine.Strategy.CALL_BY_NEED);
+		assert normal.equals(byName.normalize(term));
+		assert normal.equals(byNeed.normalize(term));
+		assert byName.steps() == 7L && byName.updates() == 0L;
+		assert byNeed.steps() == 4L && byNeed.updates() > 0L;
+	}
+
+	static void testDepth(boolean inConcurrence)
+	{
+		/* A spine of applications, and a nest of as many. */
+		Term spine = Term.Combinator.I;
+		Term nest = Term.Combinator.C;
+
+		for (int i = 0; i < DEPTH; ++i) {
+			spine = Term.app(spine, Term.Combinator.I);
+			nest = Term.app(Term.Combinator.I, nest);
+		}
+
+		final Machine machine = Machine.newInstance(
+					Machine.Strategy.CALL_BY_NEED);
+		final Term[] terms = { spine, nest };
+		assert Term.Combinator.I.equals(TermTests.inSmallStack(ignored -> machine
+			.normalize(terms[0])));
+		assert Term.Combinator.C.equals(TermTests.inSmallStack(ignored -> machine
+			.normalize(terms[1])));
+		assert machine.steps() == 2L * DEPTH;
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testNormalize(concurrent),
+					concurrent -> testSharing(concurrent),
+					concurrent -> testDepth(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,290 @@
+package org.function;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The duplicating combinators of {@link Combinators}, whose obtained
+ * functions memoise the values of the functions that they are passed.
+ * <p>
+ * {@code Sfgx} and {@code Wfx} pass the same {@code x} value on to more
+ * than one place; where {@code f} and {@code g} are pure but costly, e.g.
+ * lookups keyed on {@code x}, a memoising {@link #s()} or {@link #w()}
+ * computes {@code fx} and {@code gx} once for every {@code x} value that
+ * is still cached, no matter how many times its obtained function is
+ * applied to that value.
+ * <p>
+ * Every passed function is cached by a bounded cache of its own, which
+ * evicts its least recently used value whenever it would grow beyond its
+ * capacity, and whose keys are compared for the {@link Equality equality}
+ * of its choice.  A cache may be shared by several threads: every access
+ * is serialised on the cache, but values are computed outside of it, so
+ * that two threads may compute the same value at once.
+ *
+ * @see Combinators#s()
+ * @see Combinators#w()
+ */
+public class Memo
+{
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private Memo() { /* No instantiation. */ }
+
+	/**
+	 * Returns a function that applies the passed function and memoises
+	 * at most the passed number of its values.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param f a pure function
+	 * @param capacity the greatest number of memoised values
+	 * @param equality the equality of arguments
+	 * @return a memoising function
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public static <A1, A2> Function<A1, A2> function(Function<A1, A2> f,
+					int capacity, Equality equality)
+	{
+		Objects.requireNonNull(f, "f");
+		check(capacity, equality);
+		return new Memoized<>(f, capacity, equality);
+	}
+
+	/**
+	 * Returns the {@link Combinators#s()} combinator, whose obtained
+	 * functions memoise a default number of values of {@code f} and of
+	 * {@code g} for arguments that are equal.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> s()
+	{
+		return Memo.<A1, A2, A3>s(DEFAULT_CAPACITY, Equality.EQUALS);
+	}
+
+	/**
+	 * Returns the {@link Combinators#s()} combinator, whose obtained
+	 * functions memoise at most the passed number of values of {@code f}
+	 * and of {@code g}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param capacity the greatest number of memoised values of every
+	 *	function
+	 * @param equality the equality of arguments
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> s(int capacity, Equality equality)
+	{
+		return Memo.<A1, A2, A3>s(Combinators.<A1, A2, A3>s(),
+							capacity, equality);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function, and returns
+	 * a functional interface that takes a function, and returns the
+	 * function that the passed {@code S} combinator, e.g. a parallel
+	 * {@link ParallelCombinators combinator}, obtains from memoising
+	 * functions of them.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param s an {@code S} combinator
+	 * @param capacity the greatest number of memoised values of every
+	 *	function
+	 * @param equality the equality of arguments
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> s(
+			Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> s,
+			int capacity, Equality equality)
+	{
+		Objects.requireNonNull(s, "s");
+		check(capacity, equality);
+		return f -> g -> s
+			.apply(function(f, capacity, equality))
+			.apply(function(g, capacity, equality));
+	}
+
+	/**
+	 * Returns the {@link Combinators#w()} combinator, whose obtained
+	 * functions memoise a default number of values of {@code f} for
+	 * arguments that are equal.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> w()
+	{
+		return Memo.<A1, A2>w(DEFAULT_CAPACITY, Equality.EQUALS);
+	}
+
+	/**
+	 * Returns the {@link Combinators#w()} combinator, whose obtained
+	 * functions memoise at most the passed number of values of {@code f}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param capacity the greatest number of memoised values
+	 * @param equality the equality of arguments
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> w(int capacity, Equality equality)
+	{
+		return Memo.<A1, A2>w(Combinators.<A1, A2>w(), capacity,
+								equality);
+	}
+
+	/**
+	 * Returns a functional interface that takes a function, and returns
+	 * the function that the passed {@code W} combinator, e.g. any
+	 * duplicator of {@link SC}, obtains from a memoising function of it.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param w a {@code W} combinator
+	 * @param capacity the greatest number of memoised values
+	 * @param equality the equality of arguments
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> w(
+			Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> w,
+			int capacity, Equality equality)
+	{
+		Objects.requireNonNull(w, "w");
+		check(capacity, equality);
+		return f -> w.apply(function(f, capacity, equality));
+	}
+
+	private static void check(int capacity, Equality equality)
+	{
+		Objects.requireNonNull(equality, "equality");
+
+		if (capacity < 1)
+			throw new IllegalArgumentException(Integer
+						.toString(capacity));
+	}
+
+	/**
+	 * The equalities of the arguments of memoising functions.
+	 */
+	public enum Equality
+	{
+		/** Arguments are equal if they are the same object. */
+		IDENTITY {
+			@Override
+			Object key(Object argument)
+			{
+				return new Identity(argument);
+			}
+		},
+
+		/** Arguments are equal if they are {@link Object#equals equal}. */
+		EQUALS {
+			@Override
+			Object key(Object argument)	{ return argument; }
+		};
+
+		abstract Object key(Object argument);
+	}
+
+	/** An argument that is only equal to itself. */
+	private static final class Identity
+	{
+		private final Object argument;
+
+		Identity(Object argument)	{ this.argument = argument; }
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(argument);
+		}
+
+		@Override
+		public boolean equals(Object that)
+		{
+			return (that instanceof Identity identity
+					&& argument == identity.argument);
+		}
+	}
+
+	/** A function whose values are cached in the least recently used order. */
+	private static final class Memoized<A1, A2> implements Function<A1, A2>
+	{
+		private static final Object NULL = new Object();
+
+		private final Function<A1, A2> f;
+		private final Equality equality;
+		private final Map<Object, Object> values;
+
+		Memoized(Function<A1, A2> f, int capacity, Equality equality)
+		{
+			this.f = f;
+			this.equality = equality;
+			this.values = new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						Map.Entry<Object, Object> eldest)
+				{
+					return (size() > capacity);
+				}
+			};
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public A2 apply(A1 x)
+		{
+			final Object key = equality.key(x);
+			Object value;
+
+			synchronized (values) {
+				value = values.get(key);
+			}
+
+			if (value == null) {
+				final A2 computed = f.apply(x);
+				value = (computed == null) ? NULL : computed;
+
+				synchronized (values) {
+					values.put(key, value);
+				}
+			}
+
+			return (value == NULL) ? null : (A2) value;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package org.function;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class MemoTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private MemoTests() { /* No instantiation. */ }
+
+	static void testS(boolean inConcurrence)
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Integer, Function<Integer, Integer>> adder = x -> {
+			calls.incrementAndGet();
+			return y -> x + y;
+		};
+		final Function<Integer, Integer> squarer = x -> {
+			calls.incrementAndGet();
+			return x * x;
+		};
+
+		/* S(+)(square), where (+ 3) and (square 3) are computed once. */
+		final Function<Integer, Integer> s = Memo
+			.<Integer, Integer, Integer>s()
+			.apply(adder)
+			.apply(squarer);
+		assert s.apply(3) == 12 && s.apply(3) == 12;
+		assert calls.get() == 2;
+
+		/* A value of capacity 1 is evicted by another argument. */
+		calls.set(0);
+		final Function<Integer, Integer> evicting = Memo
+			.<Integer, Integer, Integer>s(1, Memo.Equality.EQUALS)
+			.apply(adder)
+			.apply(squarer);
+		assert evicting.apply(3) == 12 && evicting.apply(2) == 6
+						&& evicting.apply(3) == 12;
+		assert calls.get() == 6;
+
+		/* Equal arguments that are not the same object are not hits. */
+		calls.set(0);
+		final Function<Integer, Integer> identical = Memo
+			.<Integer, Integer, Integer>s(ParallelCombinators
+					.<Integer, Integer, Integer>s(
+						x -> 0L, Long.MAX_VALUE),
+				2, Memo.Equality.IDENTITY)
+			.apply(adder)
+			.apply(squarer);
+		final Integer thousand = 1000;
+		assert identical.apply(thousand) == 1001000
+				&& identical.apply(thousand) == 1001000;
+		assert identical.apply(Integer.valueOf("1000")) == 1001000;
+		assert calls.get() == 4;
+	}
+
+	static void testW(boolean inConcurrence)
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<String, Function<String, String>> concatenator =
+									x -> {
+			calls.incrementAndGet();
+			return x::concat;
+		};
+
+		for (Function<Function<String, Function<String, String>>,
+				Function<String, String>> w : Set.of(
+					Memo.<String, String>w(),
+					Memo.<String, String>w(SC.sssc(), 2,
+						Memo.Equality.EQUALS))) {
+			calls.set(0);
+			final Function<String, String> doubler = w
+				.apply(concatenator);
+			assert "..".equals(doubler.apply("."))
+					&& "..".equals(doubler.apply("."));
+			assert calls.get() == 1;
+		}
+
+		try {
+			Memo.w(0, Memo.Equality.EQUALS);
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testS(concurrent),
+					concurrent -> testW(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,266 @@
+package org.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A compiler of {@link Term terms} to trees of method handles.
+ * <p>
+ * A term of arity <i>n</i> is applied to <i>n</i> variables and reduced to
+ * its normal form, e.g. {@code S(ZZS)(CC)} applied to {@code f}, {@code y},
+ * and {@code x} is reduced to {@code fxy}.  The normal form is then
+ * translated into a method handle of <i>n</i> arguments: a variable into
+ * a {@link MethodHandles#permuteArguments permutation} that selects its
+ * argument, a combinator or a literal into a {@link MethodHandles#constant
+ * constant}, and an application into a {@link MethodHandles#foldArguments
+ * fold} of {@link Function#apply(Object)} over the method handles of its
+ * function and its argument.  No combinator of the term is left to apply
+ * at run time, and every remaining call is made through a method handle
+ * that the JIT compiler can inline past its {@code MaxInlineLevel}.
+ * <p>
+ * Literal functions of a compiled term are never applied during its
+ * compilation; they are kept as constants.
+ * <p>
+ * The JIT compiler inlines a method handle only when it is a constant, so
+ * store a compiled method handle, or a compiled {@link #function(Term)
+ * function}, in a {@code static final} field.
+ *
+ * @see GraphReducer
+ */
+public final class MethodHandleCompiler
+{
+	/** The maximum number of arguments of a method handle. */
+	private static final int MAX_ARITY = 255;
+
+	private static final MethodHandle APPLY;
+
+	static {
+		try {
+			APPLY = MethodHandles.publicLookup()
+				.findVirtual(Function.class, "apply",
+					MethodType.methodType(Object.class,
+								Object.class))
+				.asType(MethodType.genericMethodType(2));
+		} catch (final ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private MethodHandleCompiler() { /* No instantiation. */ }
+
+	/**
+	 * Returns the least number of arguments that the passed term must be
+	 * applied to for its normal form to be headed by one of its arguments
+	 * or by one of its literals.  The computation does not terminate for
+	 * a term that has no normal form.
+	 *
+	 * @param term a term
+	 * @return the arity of the term
+	 * @throws IllegalArgumentException if the arity of the term exceeds
+	 *	the maximum number of arguments of a method handle
+	 */
+	public static int arity(Term term)
+	{
+		for (int arity = 0; arity <= MAX_ARITY; ++arity) {
+			Term head = normalForm(term, arity);
+
+			while (head instanceof Term.App app)
+				head = app.function();
+
+			if (!(head instanceof Term.Combinator))
+				return arity;
+		}
+
+		throw new IllegalArgumentException("Too many arguments");
+	}
+
+	/**
+	 * Compiles the passed term, applied to as many arguments as passed,
+	 * to a method handle of the type {@code (Object, ...)Object}.
+	 *
+	 * @param term a term
+	 * @param arity the number of arguments
+	 * @return a method handle of {@code arity} arguments that returns the
+	 *	value of the term applied to these arguments
+	 * @throws IllegalArgumentException if the arity is negative or if it
+	 *	exceeds the maximum number of arguments of a method handle
+	 */
+	public static MethodHandle compile(Term term, int arity)
+	{
+		if (arity < 0 || arity > MAX_ARITY)
+			throw new IllegalArgumentException("Illegal arity");
+
+		return compile(normalForm(term, arity),
+				Collections.nCopies(arity, Object.class),
+				new IdentityHashMap<>());
+	}
+
+	/**
+	 * Compiles the passed term, applied to as many arguments as its
+	 * {@link #arity(Term) arity}, to a curried function that collects
+	 * these arguments and invokes the compiled method handle.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param term a term
+	 * @return a curried function
+	 * @throws IllegalArgumentException if the arity of the term is zero
+	 *	or if it exceeds the maximum number of arguments of a method
+	 *	handle
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<A1, A2> function(Term term)
+	{
+		final int arity = arity(term);
+
+		if (arity == 0)
+			throw new IllegalArgumentException("Not a function");
+
+		return (Function<A1, A2>) new Curried(compile(term, arity)
+				.asSpreader(Object[].class, arity),
+			arity,
+			new Object[0]);
+	}
+
+	/**
+	 * Reduces the passed term, applied to as many variables as passed,
+	 * to its normal form.  Every literal of the term is replaced with
+	 * an irreducible {@link Constant} literal and every variable is
+	 * a {@link Variable} literal.
+	 *
+	 * @param term a term
+	 * @param arity the number of variables
+	 * @return the normal form of the applied term
+	 */
+	static Term normalForm(Term term, int arity)
+	{
+		final Term[] variables = new Term[arity];
+
+		for (int i = 0; i < arity; ++i)
+			variables[i] = Term.lit(new Variable(i));
+
+		return GraphReducer.newInstance()
+			.normalize(Term.app(opaque(term,
+						new IdentityHashMap<>()),
+					variables));
+	}
+
+	private static Term opaque(Term term, Map<Term, Term> opaques)
+	{
+		final Term opaque = opaques.get(term);
+
+		if (opaque != null)
+			return opaque;
+
+		final Term result = (term instanceof Term.Lit lit)
+			? Term.lit(new Constant(lit.value()))
+			: (term instanceof Term.App app)
+				? Term.app(opaque(app.function(), opaques),
+					opaque(app.argument(), opaques))
+				: term;
+		opaques.put(term, result);
+		return result;
+	}
+
+	private static MethodHandle compile(Term term,
+					List<Class<?>> parameters,
+					Map<Term, MethodHandle> handles)
+	{
+		final MethodHandle known = handles.get(term);
+
+		if (known != null)
+			return known;
+
+		final MethodHandle handle;
+
+		if (term instanceof Term.App app) {
+			final MethodHandle function = compile(app.function(),
+							parameters, handles);
+			final MethodHandle argument = compile(app.argument(),
+							parameters, handles);
+
+			// (f, a, x...) -> f.apply(a)
+			final MethodHandle target = MethodHandles.dropArguments(
+							APPLY, 2, parameters);
+
+			// (f, x...) -> f.apply(a(x...))
+			final MethodHandle applied = MethodHandles.foldArguments(
+							target, 1, argument);
+
+			// (x...) -> f(x...).apply(a(x...))
+			handle = MethodHandles.foldArguments(applied, function);
+		} else if (term instanceof Term.Lit lit
+				&& lit.value() instanceof Variable variable) {
+			handle = MethodHandles.permuteArguments(
+					MethodHandles.identity(Object.class),
+					MethodType.methodType(Object.class,
+								parameters),
+					variable.index);
+		} else {
+			handle = MethodHandles.dropArguments(
+					MethodHandles.constant(Object.class,
+						(term instanceof Term.Lit lit)
+						? ((Constant) lit.value()).value
+						: ((Term.Combinator) term)
+							.function()),
+					0,
+					parameters);
+		}
+
+		handles.put(term, handle);
+		return handle;
+	}
+
+	/** An argument of a compiled term. */
+	static final class Variable
+	{
+		final int index;
+
+		Variable(int index)		{ this.index = index; }
+	}
+
+	/** A literal value of a compiled term that is never applied. */
+	static final class Constant
+	{
+		final Object value;
+
+		Constant(Object value)		{ this.value = value; }
+	}
+
+	/*
+	 * The fields of a record are trusted to be final, so that a constant
+	 * curried function makes its method handle a constant too.
+	 */
+	private record Curried(MethodHandle handle, int arity,
+					Object[] arguments)
+				implements Function<Object, Object>
+	{
+		@Override
+		public Object apply(Object x)
+		{
+			final int length = arguments.length;
+			final Object[] collected = Arrays.copyOf(arguments,
+								length + 1);
+			collected[length] = x;
+
+			if (collected.length < arity)
+				return new Curried(handle, arity, collected);
+
+			try {
+				return (Object) handle.invokeExact(collected);
+			} catch (final RuntimeException | Error e) {
+				throw e;
+			} catch (final Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+		}
+	}
+}
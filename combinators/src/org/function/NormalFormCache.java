@@ -0,0 +1,380 @@
+package org.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded cache of the normal forms of {@link Term terms}, which
+ * evicts a least recently used entry whenever it would grow beyond its
+ * capacity.
+ * <p>
+ * Terms are keyed by their canonical terms of a {@link TermFactory}, and
+ * keys are compared by reference, so that a lookup costs no traversal of
+ * the structure of a term, however large, but for its interning; and
+ * a term that is canonical in the factory of the cache already, e.g.
+ * a term of the same factory, or a subterm of an interned term, costs
+ * none at all.
+ * <p>
+ * A cache may be shared by several {@link GraphReducer graph reducers}
+ * and threads.  Its entries are spread over lock stripes by the hashes of
+ * their terms, and every stripe evicts its own least recently used entry,
+ * so that threads that look up terms of different hashes do not contend
+ * for the same lock.  A cache of fewer than 128 entries has a single
+ * stripe, which evicts the least recently used entry of all.
+ *
+ * @see GraphReducer#newInstance(NormalFormCache)
+ */
+public final class NormalFormCache
+{
+	private static final int MAX_STRIPES = 16;
+	private static final int STRIPE_ENTRIES = 64;	/* At the least. */
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final int capacity;
+	private final TermFactory factory;
+	private final Stripe[] stripes;
+
+	private NormalFormCache(int capacity, TermFactory factory)
+	{
+		final int stripes = Math.min(MAX_STRIPES, Math.max(1,
+			Integer.highestOneBit(capacity / STRIPE_ENTRIES)));
+		this.capacity = capacity;
+		this.factory = factory;
+		this.stripes = new Stripe[stripes];
+
+		/* Index the chains of a stripe by the bits above its index. */
+		final int shift = Integer.numberOfTrailingZeros(stripes);
+
+		for (int i = 0; i < stripes; ++i)
+			this.stripes[i] = new Stripe(capacity / stripes, shift);
+	}
+
+	/**
+	 * Returns a new cache of at most the passed number of entries, whose
+	 * terms are interned by a factory of its own.
+	 *
+	 * @param capacity the greatest number of entries
+	 * @return a new cache
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public static NormalFormCache newInstance(int capacity)
+	{
+		return newInstance(capacity, TermFactory.newInstance());
+	}
+
+	/**
+	 * Returns a new cache of at most the passed number of entries, whose
+	 * terms are interned by the passed factory, so that the canonical
+	 * terms of the factory are looked up without interning.
+	 *
+	 * @param capacity the greatest number of entries
+	 * @param factory a factory of canonical terms
+	 * @return a new cache
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public static NormalFormCache newInstance(int capacity,
+						TermFactory factory)
+	{
+		if (capacity < 1)
+			throw new IllegalArgumentException(Integer
+						.toString(capacity));
+
+		return new NormalFormCache(capacity,
+				Objects.requireNonNull(factory, "factory"));
+	}
+
+	/**
+	 * Returns the cached normal form of the passed term, and counts
+	 * a hit, or returns {@code null}, and counts a miss.
+	 *
+	 * @param term a term
+	 * @return the normal form of the term, or {@code null}
+	 */
+	public Term get(Term term)
+	{
+		final Term normalForm = probe(canonical(term));
+
+		if (normalForm == null)
+			misses.increment();
+
+		return normalForm;
+	}
+
+	/*
+	 * Returns the canonical term of the passed term, by which the passed
+	 * term, and each of its subterms, is keyed.
+	 */
+	Term canonical(Term term)		{ return factory.intern(term); }
+
+	/*
+	 * Returns the cached normal form of the passed canonical term, and
+	 * counts a hit, or returns null, and counts nothing, since a subterm
+	 * that is probed while its term is loaded is no lookup of its own.
+	 */
+	Term probe(Term canonical)
+	{
+		final int hash = canonical.hashCode();
+		final Stripe stripe = stripe(hash);
+		final Term normalForm;
+
+		synchronized (stripe) {
+			normalForm = stripe.get(canonical, hash);
+		}
+
+		if (normalForm != null) {
+			hits.increment();
+			Events.cacheHit(canonical, normalForm);
+		}
+
+		return normalForm;
+	}
+
+	/**
+	 * Caches the passed normal form of the passed term, evicting the
+	 * least recently used entry of its stripe, if there is no room for
+	 * another entry.
+	 *
+	 * @param term a term
+	 * @param normalForm the normal form of the term
+	 */
+	public void put(Term term, Term normalForm)
+	{
+		Objects.requireNonNull(normalForm, "normalForm");
+		final Term canonical = canonical(term);
+		final int hash = canonical.hashCode();
+		final Stripe stripe = stripe(hash);
+		final boolean evicted;
+
+		synchronized (stripe) {
+			evicted = stripe.put(canonical, normalForm, hash);
+		}
+
+		if (evicted)
+			evictions.increment();
+	}
+
+	/** Removes every entry of this cache. */
+	public void clear()
+	{
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entries of this cache.
+	 *
+	 * @return the number of entries
+	 */
+	public int size()
+	{
+		int size = 0;
+
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.count;
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Returns the greatest number of entries of this cache.
+	 *
+	 * @return the capacity of this cache
+	 */
+	public int capacity()			{ return capacity; }
+
+	/**
+	 * Returns the number of lookups that found a normal form so far,
+	 * including the subterms that were loaded in place of their terms.
+	 *
+	 * @return the number of hits
+	 */
+	public long hits()			{ return hits.sum(); }
+
+	/**
+	 * Returns the number of lookups that found no normal form so far,
+	 * excluding the subterms that were probed in vain.
+	 *
+	 * @return the number of misses
+	 */
+	public long misses()			{ return misses.sum(); }
+
+	/**
+	 * Returns the number of entries evicted so far.
+	 *
+	 * @return the number of evictions
+	 */
+	public long evictions()			{ return evictions.sum(); }
+
+	private Stripe stripe(int hash)
+	{
+		return stripes[hash & (stripes.length - 1)];
+	}
+
+	/** A cached normal form in a chain, and in the uses, of a stripe. */
+	private static final class Entry
+	{
+		private final Term term;	/* Canonical. */
+		private final int hash;
+		private Term normalForm;
+		private Entry next;
+		private Entry before;
+		private Entry after;
+
+		Entry(Term term, Term normalForm, int hash, Entry next)
+		{
+			this.term = term;
+			this.normalForm = normalForm;
+			this.hash = hash;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * A chained hash table of entries, which are also linked from the
+	 * least to the most recently used, guarded by itself.
+	 */
+	private static final class Stripe
+	{
+		private final int capacity;
+		private final int shift;
+		private final Entry uses = new Entry(null, null, 0, null);
+		private Entry[] table = new Entry[16];
+		private int count;
+
+		Stripe(int capacity, int shift)
+		{
+			this.capacity = capacity;
+			this.shift = shift;
+			uses.before = uses;
+			uses.after = uses;
+		}
+
+		Term get(Term term, int hash)
+		{
+			final Entry entry = find(term, hash);
+
+			if (entry == null)
+				return null;
+
+			unlink(entry);
+			link(entry);
+			return entry.normalForm;
+		}
+
+		/* Returns whether the least recently used entry was evicted. */
+		boolean put(Term term, Term normalForm, int hash)
+		{
+			final Entry known = find(term, hash);
+
+			if (known != null) {
+				known.normalForm = normalForm;
+				unlink(known);
+				link(known);
+				return false;
+			}
+
+			if (count >= table.length - (table.length >>> 2))
+				resize();
+
+			final int index = index(hash);
+			final Entry entry = new Entry(term, normalForm, hash,
+								table[index]);
+			table[index] = entry;
+			link(entry);
+
+			if (++count <= capacity)
+				return false;
+
+			remove(uses.after);
+			return true;
+		}
+
+		void clear()
+		{
+			Arrays.fill(table, null);
+			uses.before = uses;
+			uses.after = uses;
+			count = 0;
+		}
+
+		private Entry find(Term term, int hash)
+		{
+			for (Entry entry = table[index(hash)]; entry != null;
+							entry = entry.next) {
+				if (entry.term == term)
+					return entry;
+			}
+
+			return null;
+		}
+
+		/* Links the passed entry as the most recently used one. */
+		private void link(Entry entry)
+		{
+			entry.before = uses.before;
+			entry.after = uses;
+			uses.before.after = entry;
+			uses.before = entry;
+		}
+
+		private void unlink(Entry entry)
+		{
+			entry.before.after = entry.after;
+			entry.after.before = entry.before;
+		}
+
+		private void remove(Entry stale)
+		{
+			final int index = index(stale.hash);
+			Entry previous = null;
+			unlink(stale);
+
+			for (Entry entry = table[index]; entry != null;
+						entry = entry.next) {
+				if (entry == stale) {
+					if (previous == null)
+						table[index] = entry.next;
+					else
+						previous.next = entry.next;
+
+					--count;
+					break;
+				}
+
+				previous = entry;
+			}
+		}
+
+		private int index(int hash)
+		{
+			return (hash >>> shift) & (table.length - 1);
+		}
+
+		private void resize()
+		{
+			final Entry[] table = new Entry[this.table.length << 1];
+
+			for (Entry head : this.table) {
+				for (Entry entry = head, next; entry != null;
+							entry = next) {
+					next = entry.next;
+					final int index = (entry.hash >>> shift)
+							& (table.length - 1);
+					entry.next = table[index];
+					table[index] = entry;
+				}
+			}
+
+			this.table = table;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package org.function;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A rewriter of {@link Term terms} to smaller terms that are extensionally
+ * equal to them.
+ * <p>
+ * Every subterm is optimised before the term that it is a subterm of, and
+ * a rewritten term is optimised again, until no {@link Rule rule} can be
+ * applied.  Since every rule makes a term smaller, optimisation always
+ * terminates.  Terms written in the minimal basis of {@code S} and
+ * {@code C}, e.g. the derivations of {@link SC}, are thus rewritten to the
+ * combinators that they derive before they are reduced.
+ *
+ * @see GraphReducer
+ */
+public final class Optimizer
+{
+	private final Set<Rule> rules;
+	private final LongAdder[] applications;
+
+	private Optimizer(Set<Rule> rules)
+	{
+		this.rules = Collections.unmodifiableSet(EnumSet.copyOf(rules));
+		this.applications = new LongAdder[Rule.values().length];
+
+		for (int i = 0; i < applications.length; ++i)
+			applications[i] = new LongAdder();
+	}
+
+	/**
+	 * Returns a new optimizer that applies every rule.
+	 *
+	 * @return a new optimizer
+	 */
+	public static Optimizer newInstance()
+	{
+		return new Optimizer(EnumSet.allOf(Rule.class));
+	}
+
+	/**
+	 * Returns a new optimizer that applies the passed rules.
+	 *
+	 * @param rules rules
+	 * @return a new optimizer
+	 */
+	public static Optimizer newInstance(Set<Rule> rules)
+	{
+		return new Optimizer((rules.isEmpty())
+			? EnumSet.noneOf(Rule.class)
+			: rules);
+	}
+
+	/**
+	 * Returns the rules that this optimizer applies.
+	 *
+	 * @return an unmodifiable set of rules
+	 */
+	public Set<Rule> rules()		{ return rules; }
+
+	/**
+	 * Returns the number of times that the passed rule was applied so far
+	 * by this optimizer.
+	 *
+	 * @param rule a rule
+	 * @return the number of applications of the rule
+	 */
+	public long applications(Rule rule)
+	{
+		return applications[rule.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of times that every rule was applied so far by
+	 * this optimizer.
+	 *
+	 * @return a map of rules to the numbers of their applications
+	 */
+	public Map<Rule, Long> statistics()
+	{
+		final Map<Rule, Long> statistics = new EnumMap<>(Rule.class);
+
+		for (Rule rule : rules)
+			statistics.put(rule, applications(rule));
+
+		return statistics;
+	}
+
+	/**
+	 * Rewrites the passed term with the rules of this optimizer.
+	 *
+	 * @param term a term
+	 * @return an optimised term, which shares every subterm that the
+	 *	passed term shares
+	 */
+	public Term optimize(Term term)
+	{
+		return optimize(term, new IdentityHashMap<>());
+	}
+
+	private Term optimize(Term term, Map<Term, Term> optimised)
+	{
+		final Term known = optimised.get(term);
+
+		if (known != null)
+			return known;
+
+		Term result = term;
+
+		if (term instanceof Term.App app) {
+			final Term function = optimize(app.function(), optimised);
+			final Term argument = optimize(app.argument(), optimised);
+			result = (function == app.function()
+					&& argument == app.argument())
+				? term
+				: Term.app(function, argument);
+		}
+
+		for (Rule rule : rules) {
+			final Term rewritten = rule.rewrite(result);
+
+			if (rewritten != null) {
+				applications[rule.ordinal()].increment();
+				result = optimize(rewritten, optimised);
+				break;
+			}
+		}
+
+		optimised.put(term, result);
+		return result;
+	}
+
+	/**
+	 * The rewrite rules of an optimizer, in the order of their trial.
+	 */
+	public enum Rule
+	{
+		/** SCx &rarr; I, e.g. {@code SCC}. @see SC#scc() */
+		IDENTITY {
+			@Override
+			Term rewrite(Term term)
+			{
+				final Term[] sc = arguments(term,
+						Term.Combinator.S, 2);
+				return (sc != null && sc[0] == Term.Combinator.C)
+					? Term.Combinator.I
+					: null;
+			}
+		},
+
+		/** S(CS)C &rarr; Z. @see SC#scsc() */
+		COMPOSITION {
+			@Override
+			Term rewrite(Term term)
+			{
+				return (SCSC.equals(term))
+					? Term.Combinator.Z
+					: null;
+			}
+		},
+
+		/** S(ZZS)(CC) &rarr; T. @see SC#szzscc() */
+		INTERCHANGE {
+			@Override
+			Term rewrite(Term term)
+			{
+				return (SZZSCC.equals(term))
+					? Term.Combinator.T
+					: null;
+			}
+		},
+
+		/** SS(SC) &rarr; W. @see SC#sssc() */
+		DUPLICATION {
+			@Override
+			Term rewrite(Term term)
+			{
+				return (SSSC.equals(term))
+					? Term.Combinator.W
+					: null;
+			}
+		},
+
+		/** T(S(TT)(TT)) &rarr; W. @see SC#tstttt() */
+		INTERCHANGED_DUPLICATION {
+			@Override
+			Term rewrite(Term term)
+			{
+				return (TSTTTT.equals(term))
+					? Term.Combinator.W
+					: null;
+			}
+		},
+
+		/** S(Cf)I &rarr; f, the eta-reduction of {@code \x.fx}. */
+		ETA {
+			@Override
+			Term rewrite(Term term)
+			{
+				final Term[] sfi = arguments(term,
+						Term.Combinator.S, 2);
+
+				if (sfi == null || sfi[1] != Term.Combinator.I)
+					return null;
+
+				final Term[] cf = arguments(sfi[0],
+						Term.Combinator.C, 1);
+				return (cf != null) ? cf[0] : null;
+			}
+		},
+
+		/** Cxy &rarr; x, where {@code y} is never evaluated. */
+		CONSTANCY {
+			@Override
+			Term rewrite(Term term)
+			{
+				final Term[] cxy = arguments(term,
+						Term.Combinator.C, 2);
+				return (cxy != null) ? cxy[0] : null;
+			}
+		},
+
+		/** Ix &rarr; x. */
+		IDENTITY_APPLICATION {
+			@Override
+			Term rewrite(Term term)
+			{
+				final Term[] ix = arguments(term,
+						Term.Combinator.I, 1);
+				return (ix != null) ? ix[0] : null;
+			}
+		};
+
+		private static final Term SCSC = Term.parse("S(CS)C");
+		private static final Term SZZSCC = Term.parse("S(ZZS)(CC)");
+		private static final Term SSSC = Term.parse("SS(SC)");
+		private static final Term TSTTTT = Term.parse("T(S(TT)(TT))");
+
+		/**
+		 * Rewrites the passed term.
+		 *
+		 * @param term a term
+		 * @return a rewritten term, or {@code null}, if this rule does
+		 *	not apply to the term
+		 */
+		abstract Term rewrite(Term term);
+
+		/*
+		 * Returns the arguments of the passed combinator applied to
+		 * exactly as many arguments as passed, or null.
+		 */
+		private static Term[] arguments(Term term,
+					Term.Combinator combinator, int arity)
+		{
+			final Term[] arguments = new Term[arity];
+			Term head = term;
+
+			for (int i = arity; i-- > 0; ) {
+				if (!(head instanceof Term.App app))
+					return null;
+
+				arguments[i] = app.argument();
+				head = app.function();
+			}
+
+			return (head == combinator) ? arguments : null;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package org.function;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The combinators of {@link Combinators} that evaluate their independent
+ * applications in parallel.
+ * <p>
+ * In {@code Sfgx = (fx)(gx)}, neither application depends on the other;
+ * so {@code gx} is forked onto a {@link ForkJoinPool} while {@code fx} is
+ * evaluated by the calling thread, whenever the estimated cost of the
+ * applications for the passed {@code x} value reaches a threshold.  Below
+ * the threshold, forking costs more than it saves, and both applications
+ * are evaluated in turn.  The passed functions must be pure.
+ *
+ * @see Combinators#s()
+ */
+public class ParallelCombinators
+{
+	private ParallelCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes a curried function and
+	 * a function, and returns a functional interface that takes a value
+	 * {@code A1} and applies the leftmost function to this value, and the
+	 * rightmost function to this value in parallel, whenever the passed
+	 * cost of the value is not less than the passed threshold, and then
+	 * applies the obtained function to the obtained value {@code A2}, and
+	 * returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param cost an estimator of the cost of applying the functions to
+	 *	an {@code A1} value
+	 * @param threshold the least cost of parallel application
+	 * @return a curried function
+	 * @see ForkJoinPool#commonPool()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+					Function<Function<A1, A2>,
+					Function<A1, A3>>> s(
+					ToLongFunction<? super A1> cost,
+					long threshold)
+	{
+		return s(ForkJoinPool.commonPool(), cost, threshold);
+	}
+
+	/**
+	 * Returns a functional interface that takes a curried function and
+	 * a function, and returns a functional interface that takes a value
+	 * {@code A1} and applies the leftmost function to this value, and the
+	 * rightmost function to this value in the passed pool, whenever the
+	 * passed cost of the value is not less than the passed threshold, and
+	 * then applies the obtained function to the obtained value {@code A2},
+	 * and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param pool a pool of threads
+	 * @param cost an estimator of the cost of applying the functions to
+	 *	an {@code A1} value
+	 * @param threshold the least cost of parallel application
+	 * @return a curried function
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+					Function<Function<A1, A2>,
+					Function<A1, A3>>> s(ForkJoinPool pool,
+					ToLongFunction<? super A1> cost,
+					long threshold)
+	{
+		return f -> g -> x -> {
+			final long estimate = cost.applyAsLong(x);
+
+			if (estimate < threshold)
+				return f.apply(x)
+					.apply(g
+						.apply(x));
+
+			final ForkJoinTask<A2> gx = fork(pool, estimate,
+						() -> g.apply(x));
+
+			try {
+				final Function<A2, A3> fx = f.apply(x);
+				return fx.apply(gx.join());
+			} catch (final RuntimeException | Error e) {
+				/* No value awaits gx any more. */
+				gx.cancel(false);
+				throw e;
+			}
+		};
+	}
+
+	/**
+	 * Forks the passed computation onto the passed pool, or, when called
+	 * from a thread of another pool or from no pool, submits it to the
+	 * passed pool.
+	 *
+	 * @param <A1> a type
+	 * @param pool a pool of threads
+	 * @param cost the estimated cost of the computation
+	 * @param computation a computation
+	 * @return a task of the computation
+	 */
+	static <A1> ForkJoinTask<A1> fork(ForkJoinPool pool, long cost,
+					Callable<A1> computation)
+	{
+		final ForkJoinTask<A1> task = ForkJoinTask.adapt(computation);
+		final boolean forked = ForkJoinTask.getPool() == pool;
+		Events.fork(cost, !forked);
+		return (forked)
+			? task.fork()
+			: pool.submit(task);
+	}
+}
@@ -0,0 +1,120 @@
+package org.function;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class ParallelTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private ParallelTests() { /* No instantiation. */ }
+
+	static void testS(boolean inConcurrence)
+	{
+		final ForkJoinPool pool = new ForkJoinPool(2);
+
+		try {
+			final AtomicBoolean forked = new AtomicBoolean();
+			final Function<Integer, Integer> squarer = x -> {
+				forked.set(Thread.currentThread()
+					instanceof ForkJoinWorkerThread worker
+						&& worker.getPool() == pool);
+				return x * x;
+			};
+			final Function<Integer, Function<Integer, Integer>> adder =
+							x -> y -> x + y;
+
+			/* S(+)(square)(3), with (square 3) forked. */
+			assert ParallelCombinators
+				.<Integer, Integer, Integer>s(pool,
+						x -> x, 3L)
+				.apply(adder)
+				.apply(squarer)
+				.apply(3) == 12;
+			assert forked.get();
+
+			/* S(+)(square)(2), below the threshold. */
+			assert ParallelCombinators
+				.<Integer, Integer, Integer>s(pool,
+						x -> x, 3L)
+				.apply(adder)
+				.apply(squarer)
+				.apply(2) == 6;
+			assert !forked.get();
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	static void testReducer(boolean inConcurrence)
+	{
+		final ForkJoinPool pool = new ForkJoinPool(2);
+
+		try {
+			final AtomicBoolean forked = new AtomicBoolean();
+			final Function<Integer, Integer> squarer = x -> {
+				forked.set(Thread.currentThread()
+					instanceof ForkJoinWorkerThread worker
+						&& worker.getPool() == pool);
+				return x * x;
+			};
+			final Function<Integer, Function<Integer, Integer>> adder =
+							x -> y -> x + y;
+			final Term term = Term.app(Term.Combinator.S,
+					Term.lit(adder),
+					Term.lit(squarer),
+					Term.lit(3));
+
+			/* S(+)(square)(3), with (square 3) forked. */
+			final GraphReducer reducer = GraphReducer
+				.newInstance(pool, 1L);
+			assert Integer.valueOf(12).equals(reducer
+				.evaluate(term));
+			assert forked.get();
+
+			/* S(+)(square)(3), with no forks. */
+			assert Integer.valueOf(12).equals(GraphReducer
+				.newInstance(pool, Long.MAX_VALUE)
+				.evaluate(term));
+			assert !forked.get();
+
+			/* SC(square)(3), where the forked application is discarded. */
+			assert Integer.valueOf(3).equals(reducer
+				.evaluate(Term.app(Term.Combinator.S,
+					Term.Combinator.C,
+					Term.lit(squarer),
+					Term.lit(3))));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testS(concurrent),
+					concurrent -> testReducer(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
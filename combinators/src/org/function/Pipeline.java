@@ -0,0 +1,196 @@
+package org.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A composition of functions whose stages are kept in a flat array and
+ * applied in a loop.
+ * <p>
+ * Composing {@code N} functions with {@link Combinators#z()} or with
+ * {@link Function#compose(Function)} creates {@code N} nested closures,
+ * each of which calls the next; a pipeline composed with {@link #z()},
+ * {@link #compose(Function)}, or {@link #andThen(Function)} splices the
+ * stages of any composed pipeline into its own array instead, and fuses
+ * its stages as it goes:
+ * <ul>
+ * <li>an identity stage, i.e. {@link Combinators#i()}, unless it is
+ * {@link Reductions counted}, or {@link Function#identity()}, is dropped;
+ * <li>a {@link #constant(Object) constant} stage drops every stage before
+ * it, since the stages are assumed to be pure.
+ * </ul>
+ *
+ * @param <A1> the type of the argument to the pipeline
+ * @param <A2> the type of the result of the pipeline
+ * @see Combinators#z()
+ */
+public final class Pipeline<A1, A2> implements Function<A1, A2>
+{
+	private static final Function<?, ?>[] NO_STAGES = new Function<?, ?>[0];
+
+	private static final Pipeline<?, ?> IDENTITY = new Pipeline<>(NO_STAGES);
+
+	private final Function<?, ?>[] stages;
+
+	private Pipeline(Function<?, ?>[] stages)	{ this.stages = stages; }
+
+	/**
+	 * Returns a pipeline of no stages.
+	 *
+	 * @param <A1> a type
+	 * @return a pipeline that returns its argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1> Pipeline<A1, A1> identity()
+	{
+		return (Pipeline<A1, A1>) IDENTITY;
+	}
+
+	/**
+	 * Returns a pipeline of the passed function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param f a function
+	 * @return the passed function, if it is a pipeline, or a pipeline of
+	 *	no stages, if it is an identity function, or a pipeline of one
+	 *	stage
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Pipeline<A1, A2> of(
+				Function<? super A1, ? extends A2> f)
+	{
+		return (f instanceof Pipeline<?, ?> pipeline)
+			? (Pipeline<A1, A2>) pipeline
+			: (isIdentity(f))
+				? (Pipeline<A1, A2>) IDENTITY
+				: new Pipeline<>(new Function<?, ?>[] { f });
+	}
+
+	/**
+	 * Returns a pipeline of one constant stage, which discards its
+	 * argument and returns the passed value.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param value a value
+	 * @return a pipeline that returns the passed value
+	 * @see Combinators#c()
+	 */
+	public static <A1, A2> Pipeline<A1, A2> constant(A2 value)
+	{
+		return new Pipeline<>(new Function<?, ?>[] {
+						new Constant(value) });
+	}
+
+	/**
+	 * Returns a functional interface that takes a value {@code A1} and
+	 * returns a constant pipeline of the {@code A1} value.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see Combinators#c()
+	 */
+	public static <A1, A2> Function<A1, Pipeline<A2, A1>> c()
+	{
+		return Pipeline::constant;
+	}
+
+	/**
+	 * Returns a functional interface that takes a function, and returns
+	 * a functional interface that takes a function, and returns
+	 * a pipeline that applies the rightmost function and then the
+	 * leftmost function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+					Function<Function<A1, A2>,
+					Pipeline<A1, A3>>> z()
+	{
+		return f -> g -> Pipeline.<A1, A2>of(g)
+			.andThen(f);
+	}
+
+	/**
+	 * Returns the number of stages of this pipeline.
+	 *
+	 * @return the number of stages of this pipeline
+	 */
+	public int stages()			{ return stages.length; }
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public A2 apply(A1 x)
+	{
+		Object value = x;
+
+		for (Function<?, ?> stage : stages)
+			value = ((Function<Object, ?>) stage).apply(value);
+
+		return (A2) value;
+	}
+
+	@Override
+	public <A0> Pipeline<A0, A2> compose(
+				Function<? super A0, ? extends A1> before)
+	{
+		return joined(of(before), this);
+	}
+
+	@Override
+	public <A3> Pipeline<A1, A3> andThen(
+				Function<? super A2, ? extends A3> after)
+	{
+		return joined(this, of(after));
+	}
+
+	private static boolean isIdentity(Function<?, ?> f)
+	{
+		return (Combinators.isIdentity(f) || f == Function.identity());
+	}
+
+	private static <A1, A2, A3> Pipeline<A1, A3> joined(
+					Pipeline<A1, ?> before,
+					Pipeline<?, A3> after)
+	{
+		Objects.requireNonNull(before, "before");
+		Objects.requireNonNull(after, "after");
+
+		if (after.stages.length == 0)
+			return cast(before);
+
+		if (before.stages.length == 0 || after.stages[0]
+						instanceof Constant)
+			return cast(after);
+
+		final Function<?, ?>[] stages = Arrays.copyOf(before.stages,
+					before.stages.length + after.stages.length);
+		System.arraycopy(after.stages, 0, stages, before.stages.length,
+							after.stages.length);
+		return new Pipeline<>(stages);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <A1, A2> Pipeline<A1, A2> cast(Pipeline<?, ?> pipeline)
+	{
+		return (Pipeline<A1, A2>) pipeline;
+	}
+
+	/** A stage that discards its argument. */
+	private static final class Constant implements Function<Object, Object>
+	{
+		private final Object value;
+
+		Constant(Object value)		{ this.value = value; }
+
+		@Override
+		public Object apply(Object x)	{ return value; }
+	}
+}
@@ -0,0 +1,79 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class PipelineTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private PipelineTests() { /* No instantiation. */ }
+
+	static void testComposition(boolean inConcurrence)
+	{
+		final Function<Integer, Integer> successor = x -> x + 1;
+		final Function<Integer, Integer> doubler = x -> 2 * x;
+		final Pipeline<Integer, Integer> z = Pipeline
+			.<Integer, Integer, Integer>z()
+			.apply(successor)
+			.apply(Pipeline.<Integer, Integer, Integer>z()
+				.apply(doubler)
+				.apply(successor));
+		assert z.stages() == 3;
+		assert z.apply(3) == 9;		/* 2 * (3 + 1) + 1 */
+
+		final Pipeline<Integer, Integer> composed = Pipeline
+			.of(successor)
+			.compose(doubler)
+			.andThen(doubler)
+			.compose(z);
+		assert composed.stages() == 6;
+		assert composed.apply(3) == 38;	/* 2 * (2 * 9 + 1) */
+	}
+
+	static void testFusion(boolean inConcurrence)
+	{
+		final Function<Integer, Integer> successor = x -> x + 1;
+		assert Pipeline.of(Combinators.<Integer>i()).stages() == 0;
+		assert Pipeline.of(successor)
+			.andThen(Function.identity())
+			.compose(Combinators.i())
+			.stages() == 1;
+		assert Pipeline.identity() == Pipeline.of(Pipeline.identity());
+
+		final Pipeline<Integer, Integer> constant = Pipeline
+			.of(successor)
+			.andThen(successor)
+			.andThen(Pipeline.<Integer, Integer>c()
+				.apply(0))
+			.andThen(successor);
+		assert constant.stages() == 2;
+		assert constant.apply(8) == 1;
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testComposition(concurrent),
+					concurrent -> testFusion(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
@@ -0,0 +1,125 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class PrimitiveTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private PrimitiveTests() { /* No instantiation. */ }
+
+	/* INT: (1 + 1) + (1 + 2) + (1 + 2) + (1 + 2) */
+	static void testInt(boolean inConcurrence)
+	{
+		final int x = 6;
+		final int y = 2;
+		assert Set.of(IntCombinators.i(), IntSC.cxx())
+			.stream()
+			.allMatch(i -> i.applyAsInt(x) == x);
+		assert Set.of(IntCombinators.t(), IntSC.fxcyx(), IntSC.sfcyx())
+			.stream()
+			.allMatch(t -> t
+				.apply(a -> b -> a - b)
+				.apply(y)
+				.applyAsInt(x) == x - y);
+		assert Set.of(IntCombinators.z(), IntSC.cfxgx(), IntSC.scfgx())
+			.stream()
+			.allMatch(z -> z
+				.apply(a -> a + 1)
+				.apply(a -> a * y)
+				.applyAsInt(x) == x * y + 1);
+		assert Set.of(IntCombinators.w(), IntSC.fxcxfx(), IntSC.tfxx())
+			.stream()
+			.allMatch(w -> w
+				.apply(a -> b -> a / b)
+				.applyAsInt(x) == 1);
+	}
+
+	/* LONG: (1 + 1) + (1 + 2) + (1 + 2) + (1 + 2) */
+	static void testLong(boolean inConcurrence)
+	{
+		final long x = 6L;
+		final long y = 2L;
+		assert Set.of(LongCombinators.i(), LongSC.cxx())
+			.stream()
+			.allMatch(i -> i.applyAsLong(x) == x);
+		assert Set.of(LongCombinators.t(), LongSC.fxcyx(),
+							LongSC.sfcyx())
+			.stream()
+			.allMatch(t -> t
+				.apply(a -> b -> a - b)
+				.apply(y)
+				.applyAsLong(x) == x - y);
+		assert Set.of(LongCombinators.z(), LongSC.cfxgx(),
+							LongSC.scfgx())
+			.stream()
+			.allMatch(z -> z
+				.apply(a -> a + 1L)
+				.apply(a -> a * y)
+				.applyAsLong(x) == x * y + 1L);
+		assert Set.of(LongCombinators.w(), LongSC.fxcxfx(),
+							LongSC.tfxx())
+			.stream()
+			.allMatch(w -> w
+				.apply(a -> b -> a / b)
+				.applyAsLong(x) == 1L);
+	}
+
+	/* DOUBLE: (1 + 1) + (1 + 2) + (1 + 2) + (1 + 2) */
+	static void testDouble(boolean inConcurrence)
+	{
+		final double x = 6.0;
+		final double y = 2.0;
+		assert Set.of(DoubleCombinators.i(), DoubleSC.cxx())
+			.stream()
+			.allMatch(i -> i.applyAsDouble(x) == x);
+		assert Set.of(DoubleCombinators.t(), DoubleSC.fxcyx(),
+							DoubleSC.sfcyx())
+			.stream()
+			.allMatch(t -> t
+				.apply(a -> b -> a - b)
+				.apply(y)
+				.applyAsDouble(x) == x - y);
+		assert Set.of(DoubleCombinators.z(), DoubleSC.cfxgx(),
+							DoubleSC.scfgx())
+			.stream()
+			.allMatch(z -> z
+				.apply(a -> a + 1.0)
+				.apply(a -> a * y)
+				.applyAsDouble(x) == x * y + 1.0);
+		assert Set.of(DoubleCombinators.w(), DoubleSC.fxcxfx(),
+							DoubleSC.tfxx())
+			.stream()
+			.allMatch(w -> w
+				.apply(a -> b -> a / b)
+				.applyAsDouble(x) == 1.0);
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testInt(concurrent),
+					concurrent -> testLong(concurrent),
+					concurrent -> testDouble(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
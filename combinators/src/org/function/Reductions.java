@@ -0,0 +1,298 @@
+package org.function;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The counters of the contractions, or reduction steps, of the primitive
+ * combinators, and of the functions obtained from their factories.
+ * <p>
+ * E.g. {@link Combinators#t()} and {@link SC#szzsccfyx()} return the same
+ * value for the same arguments, but the latter contracts {@code S}, {@code
+ * Z}, and {@code C} several times to get there.  When the system property
+ * {@value #PROPERTY} is {@code true} at start-up, every factory of {@link
+ * Combinators}, and every factory of {@link SC} that its derivations are
+ * built from, returns a function that counts itself and its contractions,
+ * i.e. its applications to its last argument; and the counters are
+ * registered with the platform MBean server as {@value #NAME}.  Otherwise,
+ * every factory returns its plain function, and every counter stays at
+ * zero.
+ * <p>
+ * The counters may be read and reset by several threads; a {@link
+ * #snapshot() snapshot} is not atomic with respect to the contractions
+ * that are counted while it is taken.
+ *
+ * @see ReductionsMXBean
+ */
+public final class Reductions
+{
+	/**
+	 * The name of the system property that enables the counters.
+	 */
+	public static final String PROPERTY = "org.function.reductions";
+
+	/**
+	 * The object name of the registered {@link ReductionsMXBean}.
+	 */
+	public static final String NAME = "org.function:type=Reductions";
+
+	static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+	static {
+		if (ENABLED)
+			Counters.register();
+	}
+
+	private Reductions() { /* No instantiation. */ }
+
+	/**
+	 * Returns whether the counters are enabled.
+	 *
+	 * @return whether the counters are enabled
+	 */
+	public static boolean isEnabled()	{ return ENABLED; }
+
+	/**
+	 * Returns the number of contractions of the passed combinator so far.
+	 *
+	 * @param combinator a combinator
+	 * @return the number of contractions of the combinator
+	 */
+	public static long contractions(Term.Combinator combinator)
+	{
+		return Counters.CONTRACTIONS[combinator.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of functions obtained from the factories of the
+	 * passed combinator so far.
+	 *
+	 * @param combinator a combinator
+	 * @return the number of instances of the combinator
+	 */
+	public static long instances(Term.Combinator combinator)
+	{
+		return Counters.INSTANCES[combinator.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of contractions of every combinator so far.
+	 *
+	 * @return the number of reduction steps
+	 */
+	public static long steps()
+	{
+		long steps = 0L;
+
+		for (Term.Combinator combinator : Term.Combinator.values())
+			steps += contractions(combinator);
+
+		return steps;
+	}
+
+	/**
+	 * Returns the counters of every combinator so far.
+	 *
+	 * @return a snapshot of the counters
+	 */
+	public static Snapshot snapshot()
+	{
+		final Map<Term.Combinator, Long> contractions =
+					new EnumMap<>(Term.Combinator.class);
+		final Map<Term.Combinator, Long> instances =
+					new EnumMap<>(Term.Combinator.class);
+
+		for (Term.Combinator combinator : Term.Combinator.values()) {
+			contractions.put(combinator, contractions(combinator));
+			instances.put(combinator, instances(combinator));
+		}
+
+		return new Snapshot(Collections.unmodifiableMap(contractions),
+				Collections.unmodifiableMap(instances));
+	}
+
+	/**
+	 * Resets every counter to zero.
+	 */
+	public static void reset()
+	{
+		for (int i = 0; i < Counters.CONTRACTIONS.length; ++i) {
+			Counters.CONTRACTIONS[i].reset();
+			Counters.INSTANCES[i].reset();
+		}
+	}
+
+	private static void instantiate(Term.Combinator combinator)
+	{
+		Counters.INSTANCES[combinator.ordinal()].increment();
+	}
+
+	private static void contract(Term.Combinator combinator)
+	{
+		Counters.CONTRACTIONS[combinator.ordinal()].increment();
+	}
+
+	/* C O U N T I N G    F U N C T I O N S. */
+
+	static <A1> Function<A1, A1> i_()
+	{
+		instantiate(Term.Combinator.I);
+		return x -> {
+			// Ix = x
+			contract(Term.Combinator.I);
+			return x;
+		};
+	}
+
+	static <A1, A2> SC.C<A1, A2> c_()
+	{
+		instantiate(Term.Combinator.C);
+		return x -> y -> {
+			// Cxy = x
+			contract(Term.Combinator.C);
+			return x;
+		};
+	}
+
+	static <A1, A2, A3> SC.T<A1, A2, A3> t_()
+	{
+		instantiate(Term.Combinator.T);
+		return f -> y -> x -> {
+			// Tfyx = fxy
+			contract(Term.Combinator.T);
+			return f
+				.apply(x)
+				.apply(y);
+		};
+	}
+
+	static <A1, A2, A3> SC.Z<A1, A2, A3> z_()
+	{
+		instantiate(Term.Combinator.Z);
+		return f -> g -> x -> {
+			// Zfgx = f(gx)
+			contract(Term.Combinator.Z);
+			return f
+				.apply(g
+					.apply(x));
+		};
+	}
+
+	static <A1, A2, A3> SC.S<A1, A2, A3> s_()
+	{
+		instantiate(Term.Combinator.S);
+		return f -> g -> x -> {
+			// Sfgx = (fx)(gx)
+			contract(Term.Combinator.S);
+			return f
+				.apply(x)
+				.apply(g
+					.apply(x));
+		};
+	}
+
+	static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> w_()
+	{
+		instantiate(Term.Combinator.W);
+		return f -> x -> {
+			// Wfx = fxx
+			contract(Term.Combinator.W);
+			return f
+				.apply(x)
+				.apply(x);
+		};
+	}
+
+	/**
+	 * The counters of every combinator, at a point in time.
+	 *
+	 * @param contractions the numbers of contractions of each combinator
+	 * @param instances the numbers of functions obtained from the
+	 *	factories of each combinator
+	 */
+	public record Snapshot(Map<Term.Combinator, Long> contractions,
+				Map<Term.Combinator, Long> instances)
+	{
+		/**
+		 * Returns the number of contractions of every combinator.
+		 *
+		 * @return the number of reduction steps
+		 */
+		public long steps()
+		{
+			return contractions.values().stream()
+				.mapToLong(Long::longValue)
+				.sum();
+		}
+	}
+
+	/* The counters, which are only registered when they are enabled. */
+	private static final class Counters
+	{
+		static final LongAdder[] CONTRACTIONS = adders();
+		static final LongAdder[] INSTANCES = adders();
+
+		private Counters() { /* No instantiation. */ }
+
+		static void register()
+		{
+			try {
+				ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(new Bean(),
+						new ObjectName(NAME));
+			} catch (final JMException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static LongAdder[] adders()
+		{
+			final LongAdder[] adders =
+				new LongAdder[Term.Combinator.values().length];
+
+			for (int i = 0; i < adders.length; ++i)
+				adders[i] = new LongAdder();
+
+			return adders;
+		}
+	}
+
+	private static final class Bean implements ReductionsMXBean
+	{
+		@Override
+		public long getSteps()			{ return steps(); }
+
+		@Override
+		public Map<String, Long> getContractions()
+		{
+			return names(snapshot().contractions());
+		}
+
+		@Override
+		public Map<String, Long> getInstances()
+		{
+			return names(snapshot().instances());
+		}
+
+		@Override
+		public void reset()			{ Reductions.reset(); }
+
+		private static Map<String, Long> names(
+					Map<Term.Combinator, Long> counters)
+		{
+			final Map<String, Long> names = new LinkedHashMap<>();
+			counters.forEach((combinator, counter) ->
+					names.put(combinator.name(), counter));
+			return names;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package org.function;
+
+import java.util.Map;
+
+/**
+ * The management interface of the counters of {@link Reductions}, which is
+ * registered with the platform MBean server as {@value Reductions#NAME}
+ * when the counters are enabled.
+ *
+ * @see Reductions
+ */
+public interface ReductionsMXBean
+{
+	/**
+	 * Returns the number of contractions of every combinator so far.
+	 *
+	 * @return the number of reduction steps
+	 * @see Reductions#steps()
+	 */
+	long getSteps();
+
+	/**
+	 * Returns the number of contractions of each combinator so far.
+	 *
+	 * @return a map of combinator names to the numbers of their
+	 *	contractions
+	 * @see Reductions#contractions(Term.Combinator)
+	 */
+	Map<String, Long> getContractions();
+
+	/**
+	 * Returns the number of functions obtained from the factories of each
+	 * combinator so far.
+	 *
+	 * @return a map of combinator names to the numbers of their instances
+	 * @see Reductions#instances(Term.Combinator)
+	 */
+	Map<String, Long> getInstances();
+
+	/**
+	 * Resets every counter to zero.
+	 *
+	 * @see Reductions#reset()
+	 */
+	void reset();
+}
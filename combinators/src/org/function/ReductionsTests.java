@@ -0,0 +1,94 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class ReductionsTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	private ReductionsTests() { /* No instantiation. */ }
+
+	@SuppressWarnings("unchecked")
+	private static Object apply(Object function, Object... arguments)
+	{
+		Object value = function;
+
+		for (Object argument : arguments)
+			value = ((Function<Object, Object>) value).apply(argument);
+
+		return value;
+	}
+
+	static void testCounting(boolean inConcurrence)
+	{
+		/* The counting functions, which are served when enabled. */
+		final Reductions.Snapshot before = Reductions.snapshot();
+		final Function<String, Function<String, String>> pair =
+							x -> y -> x + y;
+
+		/* S(ZZS)(CC)fyx = fxy. */
+		assert "xy".equals(apply(Reductions.s_(),
+				apply(Reductions.z_(),
+					Reductions.z_(),
+					Reductions.s_()),
+				apply(Reductions.c_(), Reductions.c_()),
+				pair, "y", "x"));
+		final Reductions.Snapshot after = Reductions.snapshot();
+
+		for (Term.Combinator combinator : Set.of(Term.Combinator.C,
+						Term.Combinator.Z,
+						Term.Combinator.S)) {
+			assert 2L == after.contractions().get(combinator)
+				- before.contractions().get(combinator)
+				: combinator;
+			assert 2L == after.instances().get(combinator)
+				- before.instances().get(combinator)
+				: combinator;
+		}
+
+		assert after.contractions().get(Term.Combinator.T)
+			.equals(before.contractions().get(Term.Combinator.T));
+		assert after.steps() - before.steps() == 6L;
+		assert Reductions.steps() >= after.steps();
+	}
+
+	static void testDisabled(boolean inConcurrence)
+	{
+		assert !Reductions.isEnabled();
+		assert 1 == Combinators.<Integer, Integer>w()
+			.apply(x -> y -> x / y)
+			.apply(Combinators.<Integer>i()
+				.apply(2));
+		assert 0L == Reductions.contractions(Term.Combinator.W)
+			&& 0L == Reductions.instances(Term.Combinator.W)
+			&& 0L == Reductions.contractions(Term.Combinator.I)
+			&& 0L == Reductions.instances(Term.Combinator.I);
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testCounting(concurrent),
+					concurrent -> testDisabled(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
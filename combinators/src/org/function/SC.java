@@ -1087,7 +1087,13 @@ public class SC
 	 * @return a curried function
 	 * @see Combinators#c()
 	 */
-	static <A1, A2> C<A1, A2> c_()		{ return x -> y -> x; }
+	static <A1, A2> C<A1, A2> c_()
+	{
+		if (Reductions.ENABLED)
+			return Reductions.c_();
+
+		return x -> y -> x;
+	}
 
 	/**
 	 * The interchange function.
@@ -1100,6 +1106,9 @@ public class SC
 	 */
 	static <A1, A2, A3> T<A1, A2, A3> t_()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.t_();
+
 		return f -> y -> x -> f
 			.apply(x)
 			.apply(y);
@@ -1116,6 +1125,9 @@ public class SC
 	 */
 	static <A1, A2, A3> Z<A1, A2, A3> z_()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.z_();
+
 		return f -> g -> x -> f
 			.apply(g
 				.apply(x));
@@ -1132,6 +1144,9 @@ public class SC
 	 */
 	static <A1, A2, A3> S<A1, A2, A3> s_()
 	{
+		if (Reductions.ENABLED)
+			return Reductions.s_();
+
 		return f -> g -> x -> f
 			.apply(x)
 			.apply(g
@@ -2,17 +2,100 @@ package org.function;
 
 class SCTester
 {
+	private static final String[] TESTS = {
+		"SCTests",
+		"TermTests",
+		"PrimitiveTests",
+		"ParallelTests",
+		"TrampolineTests",
+		"PipelineTests",
+		"MemoTests",
+		"LazyTests",
+		"MachineTests",
+		"ArenaTests",
+		"InterpreterTests",
+		"DerivationsTests",
+		"HiddenClassCompilerTests",
+		"ReductionsTests"
+	};
+
 	static {
-		SCTester.class
-			.getClassLoader()
-			.setClassAssertionStatus("org.function.SCTests",
-								true);
+		final ClassLoader loader = SCTester.class.getClassLoader();
+
+		for (String tests : TESTS)
+			loader.setClassAssertionStatus("org.function."
+							.concat(tests), true);
 	}
 
 	private SCTester() { /* No instantiation. */ }
 
+	private static void runAll(String tests, boolean inConcurrence)
+	{
+		switch (tests) {
+		case "SCTests":
+			SCTests.runAll(inConcurrence);
+			break;
+		case "TermTests":
+			TermTests.runAll(inConcurrence);
+			break;
+		case "PrimitiveTests":
+			PrimitiveTests.runAll(inConcurrence);
+			break;
+		case "ParallelTests":
+			ParallelTests.runAll(inConcurrence);
+			break;
+		case "TrampolineTests":
+			TrampolineTests.runAll(inConcurrence);
+			break;
+		case "PipelineTests":
+			PipelineTests.runAll(inConcurrence);
+			break;
+		case "MemoTests":
+			MemoTests.runAll(inConcurrence);
+			break;
+		case "LazyTests":
+			LazyTests.runAll(inConcurrence);
+			break;
+		case "MachineTests":
+			MachineTests.runAll(inConcurrence);
+			break;
+		case "ArenaTests":
+			ArenaTests.runAll(inConcurrence);
+			break;
+		case "InterpreterTests":
+			InterpreterTests.runAll(inConcurrence);
+			break;
+		case "DerivationsTests":
+			DerivationsTests.runAll(inConcurrence);
+			break;
+		case "HiddenClassCompilerTests":
+			HiddenClassCompilerTests.runAll(inConcurrence);
+			break;
+		case "ReductionsTests":
+			ReductionsTests.runAll(inConcurrence);
+			break;
+		default:
+			throw new IllegalArgumentException(tests);
+		}
+	}
+
+	/**
+	 * Runs the named test classes, or every test class if none is named.
+	 *
+	 * @param args {@code [-c] [test-class...]}, where {@code -c} has
+	 *	the tests of each class run in concurrence
+	 */
 	public static void main(String[] args)
 	{
-		SCTests.runAll(args.length > 0 && "-c".equals(args[0]));
+		final boolean inConcurrence = args.length > 0
+						&& "-c".equals(args[0]);
+		final int first = (inConcurrence) ? 1 : 0;
+
+		if (first == args.length)
+			for (String tests : TESTS)
+				runAll(tests, inConcurrence);
+		else
+			for (int i = first; i < args.length; ++i)
+				runAll(args[i], inConcurrence);
 	}
 }
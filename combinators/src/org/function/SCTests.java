@@ -1,5 +1,6 @@
 package org.function;
 
+import java.lang.management.ManagementFactory;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -44,14 +45,17 @@ class SCTests
 		};
 	}
 
-	/* IDENTITY: 1 + 4 */
+	/* IDENTITY: 1 + 7 */
 	static void testI(boolean inConcurrence)
 	{
 		assert Set.of(Combinators.<Void>i(),
 				SC.<Void>cxx(),
 				SC.<Void>cxcx(),
 				SC.<Void>sccx(),
-				SC.<Void>scc())
+				SC.<Void>scc(),
+				StagedSC.<Void>sccx(),
+				StagedSC.<Void>scc(),
+				Specialized.<Void>scc())
 			.stream()
 			.map(Combinators.<Function<Void,
 					Function<Function<Void, Void>, Void>>>i()
@@ -89,6 +93,7 @@ class SCTests
 				Function<A1, A3>>>> tt()
 	{
 		return Set.of(Combinators.<A1, A2, A3>t(),
+				UncurriedCombinators.<A1, A2, A3>t().curried(),
 				SC.<A1, A2, A3>fxcyx(),
 				SC.<A1, A2, A3>sfcyx(),
 				SC.<A1, A2, A3>zsfcyx(),
@@ -96,10 +101,18 @@ class SCTests
 				SC.<A1, A2, A3>zzsfccfyx(),
 				SC.<A1, A2, A3>szzsccfyx(),
 				SC.<A1, A2, A3>szzscc(),
-				SC.<A1, A2, A3>sscscscscscc());
+				SC.<A1, A2, A3>sscscscscscc(),
+				StagedSC.<A1, A2, A3>zsfcyx(),
+				StagedSC.<A1, A2, A3>zzsfcyx(),
+				StagedSC.<A1, A2, A3>zzsfccfyx(),
+				StagedSC.<A1, A2, A3>szzsccfyx(),
+				StagedSC.<A1, A2, A3>szzscc(),
+				StagedSC.<A1, A2, A3>sscscscscscc(),
+				Specialized.<A1, A2, A3>szzscc(),
+				Specialized.<A1, A2, A3>sscscscscscc());
 	}
 
-	/* INTERCHANGE: 1 + 8 */
+	/* INTERCHANGE: (1 + 1) + 16 */
 	static void testT(boolean inConcurrence)
 	{
 		assert SCTests.<String, Void, String>tt()
@@ -114,20 +127,30 @@ class SCTests
 			.reduce(true,
 				(left, right) -> left && right == null,
 				uoeBOThrower());
+		assert ".".equals(UncurriedCombinators
+			.<String, Void, String>t((x, y) -> x)
+			.apply(null, "."));
 	}
 
-	/* COMPOSITION: 1 + 5 */
+	/* COMPOSITION: (1 + 1) + 10 */
 	static void testZ(boolean inConcurrence)
 	{
 		final Set<Function<Function<String, String>,
 				Function<Function<String, String>,
 				Function<String, String>>>> zz = Set.of(
 			Combinators.<String, String, String>z(),
+			UncurriedCombinators.<String, String, String>z()
+				.curried(),
 			SC.<String, String, String>cfxgx(),
 			SC.<String, String, String>scfgx(),
 			SC.<String, String, String>csfcfgx(),
 			SC.<String, String, String>scscfgx(),
-			SC.<String, String, String>scsc());
+			SC.<String, String, String>scsc(),
+			StagedSC.<String, String, String>scfgx(),
+			StagedSC.<String, String, String>csfcfgx(),
+			StagedSC.<String, String, String>scscfgx(),
+			StagedSC.<String, String, String>scsc(),
+			Specialized.<String, String, String>scsc());
 		final Function<String, String> upperCaseMapper = text -> text
 			.toUpperCase(Locale.ROOT);
 		final Function<String, String> pairCodePointer = text -> text
@@ -164,12 +187,14 @@ class SCTests
 			.toString());
 	}
 
-	/* DUPLICATOR: 1 + 13 */
+	/* DUPLICATOR: (1 + 1) + 25 */
 	static void testW(boolean inConcurrence)
 	{
 		final int value = 2;
 		final int quotient = 1;
 		assert quotient == Set.of(Combinators.<Integer, Integer>w(),
+				UncurriedCombinators.curried(
+					UncurriedCombinators.<Integer, Integer>w()),
 				SC.<Integer, Integer>fxcxfx(),
 				SC.<Integer, Integer>fxscfx(),
 				SC.<Integer, Integer>sfscfx(),
@@ -182,6 +207,18 @@ class SCTests
 				SC.<Integer, Integer>sttttxf(),
 				SC.<Integer, Integer>tsttttfx(),
 				SC.<Integer, Integer>tstttt(),
+				StagedSC.<Integer, Integer>sfscfx(),
+				StagedSC.<Integer, Integer>ssscfx(),
+				StagedSC.<Integer, Integer>sssc(),
+				StagedSC.<Integer, Integer>tfxx(),
+				StagedSC.<Integer, Integer>ttxfx(),
+				StagedSC.<Integer, Integer>tttxxf(),
+				StagedSC.<Integer, Integer>ttxttxf(),
+				StagedSC.<Integer, Integer>sttttxf(),
+				StagedSC.<Integer, Integer>tsttttfx(),
+				StagedSC.<Integer, Integer>tstttt(),
+				Specialized.<Integer, Integer>sssc(),
+				Specialized.<Integer, Integer>tstttt(),
 				SC.<Integer, Integer>
 	sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc())
 			.stream()
@@ -198,6 +235,255 @@ class SCTests
 				.apply(x -> y -> x / y)
 				.apply(value))
 			.reduce(quotient, (left, right) -> left * right);
+		assert quotient == UncurriedCombinators
+			.<Integer, Integer>w((x, y) -> x / y)
+			.apply(value);
+	}
+
+	/*
+	 * ALLOCATION BUDGETS: (1 + 4 + 2 + 1) + (1 + 8 + 4 + 2)
+	 *	+ (1 + 5 + 3 + 1) + (1 + 13 + 8 + 2), of the combinator and
+	 *	its SC, staged, and specialized definitions, for I, T, Z, W.
+	 */
+
+	private static final int INVOCATIONS = 32;
+
+	/*
+	 * Returns the least number of bytes allocated by one invocation of
+	 * a few, after as many invocations to warm up, so that a sporadic
+	 * allocation, e.g. of the linkage of a call site or of a refilled
+	 * allocation buffer, counts against no budget; less the bytes that
+	 * the reading of the allocation counter itself accounts for, as
+	 * measured the same way around an empty invocation.
+	 */
+	private static long allocatedBytes(Runnable invocation)
+	{
+		final Runnable empty = () -> { };
+		return leastAllocatedBytes(invocation)
+					- leastAllocatedBytes(empty);
+	}
+
+	private static long leastAllocatedBytes(Runnable invocation)
+	{
+		final com.sun.management.ThreadMXBean bean =
+				(com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+		for (int i = 0; i < INVOCATIONS; ++i)
+			invocation.run();	/* Link every call site. */
+
+		long least = Long.MAX_VALUE;
+
+		for (int i = 0; i < INVOCATIONS; ++i) {
+			final long start = bean.getCurrentThreadAllocatedBytes();
+			invocation.run();
+			least = Math.min(least, bean
+					.getCurrentThreadAllocatedBytes() - start);
+		}
+
+		return least;
+	}
+
+	private static void column(StringBuilder table, long value)
+	{
+		final String text = Long.toString(value);
+
+		for (int i = text.length(); i < 10; ++i)
+			table.append(' ');
+
+		table.append(text);
+	}
+
+	private static boolean budget(StringBuilder table, long budget,
+						long allocated, String name)
+	{
+		column(table, budget);
+		column(table, allocated);
+		table.append(' ')
+			.append(name)
+			.append((allocated > budget)
+				? " OVER BUDGET\n"
+				: "\n");
+		return (allocated <= budget);
+	}
+
+	private static boolean budgetI(StringBuilder table, long budget,
+				String name, Function<Object, Object> i)
+	{
+		final Object x = new Object();
+		return budget(table, budget, allocatedBytes(() -> i
+					.apply(x)),
+				name);
+	}
+
+	private static boolean budgetT(StringBuilder table, long budget,
+				String name,
+				Function<Function<Object, Function<Object, Object>>,
+					Function<Object,
+					Function<Object, Object>>> t)
+	{
+		final Function<Object, Function<Object, Object>> f = x -> y -> y;
+		return budget(table, budget, allocatedBytes(() -> t
+					.apply(f)
+					.apply(f)
+					.apply(f)),
+				name);
+	}
+
+	private static boolean budgetZ(StringBuilder table, long budget,
+				String name,
+				Function<Function<Object, Object>,
+					Function<Function<Object, Object>,
+					Function<Object, Object>>> z)
+	{
+		final Function<Object, Object> f = Combinators.i();
+		return budget(table, budget, allocatedBytes(() -> z
+					.apply(f)
+					.apply(f)
+					.apply(f)),
+				name);
+	}
+
+	private static boolean budgetW(StringBuilder table, long budget,
+				String name,
+				Function<Function<Object, Function<Object, Object>>,
+					Function<Object, Object>> w)
+	{
+		final Function<Object, Function<Object, Object>> f = x -> y -> y;
+		return budget(table, budget, allocatedBytes(() -> w
+					.apply(f)
+					.apply(f)),
+				name);
+	}
+
+	/*
+	 * Every definition must allocate no more bytes per application (of
+	 * an obtained instance to functions that allocate nothing) than its
+	 * budget.
+	 */
+	static void testBudgets(boolean inConcurrence)
+	{
+		final StringBuilder table = new StringBuilder(
+			"    budget allocated definition (bytes per invocation)\n");
+		boolean within = true;
+		within &= budgetI(table, 0L, "i",
+				Combinators.<Object>i());
+		within &= budgetI(table, 16L, "cxx",
+				SC.<Object>cxx());
+		within &= budgetI(table, 32L, "cxcx",
+				SC.<Object>cxcx());
+		within &= budgetI(table, 72L, "sccx",
+				SC.<Object>sccx());
+		within &= budgetI(table, 32L, "scc",
+				SC.<Object>scc());
+		within &= budgetI(table, 32L, "staged sccx",
+				StagedSC.<Object>sccx());
+		within &= budgetI(table, 32L, "staged scc",
+				StagedSC.<Object>scc());
+		within &= budgetI(table, 0L, "specialized scc",
+				Specialized.<Object>scc());
+		within &= budgetT(table, 40L, "t",
+				Combinators.<Object, Object, Object>t());
+		within &= budgetT(table, 56L, "fxcyx",
+				SC.<Object, Object, Object>fxcyx());
+		within &= budgetT(table, 96L, "sfcyx",
+				SC.<Object, Object, Object>sfcyx());
+		within &= budgetT(table, 136L, "zsfcyx",
+				SC.<Object, Object, Object>zsfcyx());
+		within &= budgetT(table, 176L, "zzsfcyx",
+				SC.<Object, Object, Object>zzsfcyx());
+		within &= budgetT(table, 192L, "zzsfccfyx",
+				SC.<Object, Object, Object>zzsfccfyx());
+		within &= budgetT(table, 232L, "szzsccfyx",
+				SC.<Object, Object, Object>szzsccfyx());
+		within &= budgetT(table, 96L, "szzscc",
+				SC.<Object, Object, Object>szzscc());
+		within &= budgetT(table, 112L, "sscscscscscc",
+				SC.<Object, Object, Object>sscscscscscc());
+		within &= budgetT(table, 96L, "staged zsfcyx",
+				StagedSC.<Object, Object, Object>zsfcyx());
+		within &= budgetT(table, 96L, "staged zzsfcyx",
+				StagedSC.<Object, Object, Object>zzsfcyx());
+		within &= budgetT(table, 96L, "staged zzsfccfyx",
+				StagedSC.<Object, Object, Object>zzsfccfyx());
+		within &= budgetT(table, 96L, "staged szzsccfyx",
+				StagedSC.<Object, Object, Object>szzsccfyx());
+		within &= budgetT(table, 40L, "specialized szzscc",
+				Specialized.<Object, Object, Object>szzscc());
+		within &= budgetT(table, 40L, "specialized sscscscscscc",
+				Specialized.<Object, Object, Object>sscscscscscc());
+		within &= budgetZ(table, 40L, "z",
+				Combinators.<Object, Object, Object>z());
+		within &= budgetZ(table, 56L, "cfxgx",
+				SC.<Object, Object, Object>cfxgx());
+		within &= budgetZ(table, 96L, "scfgx",
+				SC.<Object, Object, Object>scfgx());
+		within &= budgetZ(table, 112L, "csfcfgx",
+				SC.<Object, Object, Object>csfcfgx());
+		within &= budgetZ(table, 152L, "scscfgx",
+				SC.<Object, Object, Object>scscfgx());
+		within &= budgetZ(table, 56L, "scsc",
+				SC.<Object, Object, Object>scsc());
+		within &= budgetZ(table, 56L, "staged scfgx",
+				StagedSC.<Object, Object, Object>scfgx());
+		within &= budgetZ(table, 56L, "staged csfcfgx",
+				StagedSC.<Object, Object, Object>csfcfgx());
+		within &= budgetZ(table, 56L, "staged scscfgx",
+				StagedSC.<Object, Object, Object>scscfgx());
+		within &= budgetZ(table, 40L, "specialized scsc",
+				Specialized.<Object, Object, Object>scsc());
+		within &= budgetW(table, 16L, "w",
+				Combinators.<Object, Object>w());
+		within &= budgetW(table, 32L, "fxcxfx",
+				SC.<Object, Object>fxcxfx());
+		within &= budgetW(table, 72L, "fxscfx",
+				SC.<Object, Object>fxscfx());
+		within &= budgetW(table, 112L, "sfscfx",
+				SC.<Object, Object>sfscfx());
+		within &= budgetW(table, 152L, "ssscfx",
+				SC.<Object, Object>ssscfx());
+		within &= budgetW(table, 80L, "sssc",
+				SC.<Object, Object>sssc());
+		within &= budgetW(table, 56L, "tfxx",
+				SC.<Object, Object>tfxx());
+		within &= budgetW(table, 96L, "ttxfx",
+				SC.<Object, Object>ttxfx());
+		within &= budgetW(table, 136L, "tttxxf",
+				SC.<Object, Object>tttxxf());
+		within &= budgetW(table, 176L, "ttxttxf",
+				SC.<Object, Object>ttxttxf());
+		within &= budgetW(table, 216L, "sttttxf",
+				SC.<Object, Object>sttttxf());
+		within &= budgetW(table, 256L, "tsttttfx",
+				SC.<Object, Object>tsttttfx());
+		within &= budgetW(table, 152L, "tstttt",
+				SC.<Object, Object>tstttt());
+		within &= budgetW(table, 344L,
+	"sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc",
+				SC.<Object, Object>
+	sscscscscscc_s_sscscscscscc_sscscscscscc_sscscscscscc_sscscscscscc());
+		within &= budgetW(table, 80L, "staged sfscfx",
+				StagedSC.<Object, Object>sfscfx());
+		within &= budgetW(table, 80L, "staged ssscfx",
+				StagedSC.<Object, Object>ssscfx());
+		within &= budgetW(table, 56L, "staged tfxx",
+				StagedSC.<Object, Object>tfxx());
+		within &= budgetW(table, 88L, "staged ttxfx",
+				StagedSC.<Object, Object>ttxfx());
+		within &= budgetW(table, 128L, "staged tttxxf",
+				StagedSC.<Object, Object>tttxxf());
+		within &= budgetW(table, 152L, "staged ttxttxf",
+				StagedSC.<Object, Object>ttxttxf());
+		within &= budgetW(table, 152L, "staged sttttxf",
+				StagedSC.<Object, Object>sttttxf());
+		within &= budgetW(table, 152L, "staged tsttttfx",
+				StagedSC.<Object, Object>tsttttfx());
+		within &= budgetW(table, 16L, "specialized sssc",
+				Specialized.<Object, Object>sssc());
+		within &= budgetW(table, 16L, "specialized tstttt",
+				Specialized.<Object, Object>tstttt());
+		System.err.print(table);
+		assert within : table;
 	}
 
 	static void runAll(boolean inConcurrence)
@@ -212,7 +498,8 @@ class SCTests
 			.apply(Set.of(concurrent -> testI(concurrent),
 					concurrent -> testT(concurrent),
 					concurrent -> testZ(concurrent),
-					concurrent -> testW(concurrent)))
+					concurrent -> testW(concurrent),
+					concurrent -> testBudgets(concurrent)))
 			.forEach(Combinators.<Function<Boolean,
 					Consumer<Consumer<Boolean>>>>i()
 				.apply(concurrent -> test -> test
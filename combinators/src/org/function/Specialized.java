@@ -0,0 +1,136 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * Definitions of {@link SC} whose classes are generated at compile time by
+ * the {@link DerivationProcessor}, with their terms reduced away.
+ * <p>
+ * E.g. {@link SC#szzscc()} applies {@code S}, {@code Z}, and {@code C}
+ * closures whenever it is applied, whereas {@link #szzscc()} applies its
+ * {@code f} function to {@code x} and then to {@code y}, as {@link
+ * Combinators#t()} does.  Every definition is a shared instance; since its
+ * functions are generic, it serves every parameterisation of its type.
+ *
+ * @see SC
+ * @see StagedSC
+ */
+public class Specialized
+{
+	private Specialized() { /* No instantiation. */ }
+
+	/**
+	 * The specialised {@code SCC} definition of the identity function.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see SC#scc()
+	 */
+	public static <A1> Function<A1, A1> scc()
+	{
+		return Reduced_Specialized_Scc.<A1>instance();
+	}
+
+	/**
+	 * The specialised {@code S(ZZS)(CC)} definition of the interchange
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#szzscc()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> szzscc()
+	{
+		return Reduced_Specialized_Szzscc.<A1, A2, A3>instance();
+	}
+
+	/**
+	 * The specialised {@code S((S(CS)C)(S(CS)C)S)(CC)} definition of the
+	 * interchange function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#sscscscscscc()
+	 */
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> sscscscscscc()
+	{
+		return Reduced_Specialized_Sscscscscscc.<A1, A2, A3>instance();
+	}
+
+	/**
+	 * The specialised {@code S(CS)C} definition of the composition
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#scsc()
+	 */
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> scsc()
+	{
+		return Reduced_Specialized_Scsc.<A1, A2, A3>instance();
+	}
+
+	/**
+	 * The specialised {@code SS(SC)} definition of the duplicator
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#sssc()
+	 */
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sssc()
+	{
+		return Reduced_Specialized_Sssc.<A1, A2>instance();
+	}
+
+	/**
+	 * The specialised {@code T(S(TT)(TT))} definition of the duplicator
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#tstttt()
+	 */
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tstttt()
+	{
+		return Reduced_Specialized_Tstttt.<A1, A2>instance();
+	}
+
+	@Derivation("SCC")
+	interface Scc<A1> extends Function<A1, A1> { }
+
+	@Derivation("S(ZZS)(CC)")
+	interface Szzscc<A1, A2, A3> extends SC.T<A1, A2, A3> { }
+
+	@Derivation("S((S(CS)C)(S(CS)C)S)(CC)")
+	interface Sscscscscscc<A1, A2, A3> extends SC.T<A1, A2, A3> { }
+
+	@Derivation("S(CS)C")
+	interface Scsc<A1, A2, A3> extends SC.Z<A1, A2, A3> { }
+
+	@Derivation("SS(SC)")
+	interface Sssc<A1, A2> extends Function<Function<A1,
+					Function<A1, A2>>,
+				Function<A1, A2>> { }
+
+	@Derivation("T(S(TT)(TT))")
+	interface Tstttt<A1, A2> extends Function<Function<A1,
+					Function<A1, A2>>,
+				Function<A1, A2>> { }
+}
@@ -0,0 +1,738 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * The definitions of {@link SC}, staged so that every partial application
+ * that does not depend on an argument is made once rather than on every
+ * application.
+ * <p>
+ * E.g. {@link SC#zzsfcyx()} builds {@code ZZS} whenever it is applied to
+ * an {@code x} value, whereas {@link #zzsfcyx()} builds {@code ZZS} once,
+ * applies it to an {@code f} function once per {@code f}, and leaves every
+ * application to {@code y} and {@code x} values to the obtained function.
+ * Every definition is a shared instance; since its functions are generic,
+ * it serves every parameterisation of its type.
+ *
+ * @see SC
+ */
+public class StagedSC
+{
+	/* I D E N T I T Y. (S): 1 + 1 */
+
+	private static final Function<?, ?> SCCX = StagedSC.sccx_();
+	private static final Function<?, ?> SCC = SC.scc();
+
+	/* I N T E R C H A N G E. (S; Z): 2 + 4 */
+
+	private static final SC.T<?, ?, ?> ZSFCYX = StagedSC.zsfcyx_();
+	private static final SC.T<?, ?, ?> ZZSFCYX = StagedSC.zzsfcyx_();
+	private static final SC.T<?, ?, ?> ZZSFCCFYX = StagedSC.zzsfccfyx_();
+	private static final SC.T<?, ?, ?> SZZSCCFYX = StagedSC.szzsccfyx_();
+	private static final Function<?, ?> SZZSCC = SC.szzscc();
+	private static final Function<?, ?> SSCSCSCSCSCC = SC.sscscscscscc();
+
+	/* C O M P O S I T I O N. (C, S): 3 + 1 */
+
+	private static final SC.Z<?, ?, ?> SCFGX = StagedSC.scfgx_();
+	private static final SC.Z<?, ?, ?> CSFCFGX = StagedSC.csfcfgx_();
+	private static final SC.Z<?, ?, ?> SCSCFGX = StagedSC.scscfgx_();
+	private static final Function<?, ?> SCSC = SC.scsc();
+
+	/* D U P L I C A T O R. (S; T): 2 + 8 */
+
+	private static final Function<?, ?> SFSCFX = StagedSC.sfscfx_();
+	private static final Function<?, ?> SSSCFX = StagedSC.ssscfx_();
+	private static final Function<?, ?> SSSC = SC.sssc();
+	private static final Function<?, ?> TFXX = StagedSC.tfxx_();
+	private static final Function<?, ?> TTXFX = StagedSC.ttxfx_();
+	private static final Function<?, ?> TTTXXF = StagedSC.tttxxf_();
+	private static final Function<?, ?> TTXTTXF = StagedSC.ttxttxf_();
+	private static final Function<?, ?> STTTTXF = StagedSC.sttttxf_();
+	private static final Function<?, ?> TSTTTTFX = StagedSC.tsttttfx_();
+	private static final Function<?, ?> TSTTTT = SC.tstttt();
+
+	private StagedSC() { /* No instantiation. */ }
+
+	/* I D E N T I T Y. (S): 1 + 1 */
+
+	/**
+	 * The staged {@code SCCx} definition of the identity function.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see SC#sccx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1> Function<A1, A1> sccx()
+	{
+		return (Function<A1, A1>) SCCX;
+	}
+
+	/**
+	 * The shared {@code SCC} definition of the identity function.
+	 *
+	 * @param <A1> a type
+	 * @return a curried function
+	 * @see SC#scc()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1> Function<A1, A1> scc()
+	{
+		return (Function<A1, A1>) SCC;
+	}
+
+	private static <A1> Function<A1, A1> sccx_()
+	{
+		// (S(C))
+		final Function<Function<A1, Function<A1, A1>>,
+					Function<A1, A1>> h_ = SC
+			.<A1, Function<A1, A1>, A1>s_()
+			.apply(SC.<A1, Function<A1, A1>>c_());
+
+		// ((S(C)) (C))
+		final Function<A1, A1> gg_ = h_.apply(SC.<A1, A1>c_());
+		return x -> gg_.apply(x);
+	}	// ((S(C)) (C)) (x)
+
+
+
+
+	/* I N T E R C H A N G E. (S; Z): 2 + 4 */
+
+	/**
+	 * The staged {@code Z(Sf)Cyx} definition of the interchange function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#zsfcyx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> zsfcyx()
+	{
+		return (SC.T<A1, A2, A3>) ZSFCYX;
+	}
+
+	/**
+	 * The staged {@code (ZZSf)Cyx} definition of the interchange function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#zzsfcyx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> zzsfcyx()
+	{
+		return (SC.T<A1, A2, A3>) ZZSFCYX;
+	}
+
+	/**
+	 * The staged {@code (ZZSf)(CCf)yx} definition of the interchange
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#zzsfccfyx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> zzsfccfyx()
+	{
+		return (SC.T<A1, A2, A3>) ZZSFCCFYX;
+	}
+
+	/**
+	 * The staged {@code S(ZZS)(CC)fyx} definition of the interchange
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#szzsccfyx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> szzsccfyx()
+	{
+		return (SC.T<A1, A2, A3>) SZZSCCFYX;
+	}
+
+	/**
+	 * The shared {@code S(ZZS)(CC)} definition of the interchange function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#szzscc()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> szzscc()
+	{
+		return (Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>>) SZZSCC;
+	}
+
+	/**
+	 * The shared {@code S((S(CS)C)(S(CS)C)S)(CC)} definition of the
+	 * interchange function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#sscscscscscc()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>> sscscscscscc()
+	{
+		return (Function<Function<A1, Function<A2, A3>>,
+				Function<A2,
+				Function<A1, A3>>>) SSCSCSCSCSCC;
+	}
+
+	private static <A1, A2, A3> SC.T<A1, A2, A3> zsfcyx_()
+	{
+		// (Z)
+		final SC.Z<A2, Function<A1, A2>, Function<A1, A3>> f_ = SC
+			.<A2, /* B1 */
+				Function<A1, A2>,	/* B2 */
+				Function<A1, A3>>z_();	/* B3 */
+
+		// (S)
+		final SC.S<A1, A2, A3> g_ = SC.<A1, A2, A3>s_();
+
+		// (C)
+		final SC.C<A2, A1> h_ = SC.<A2, A1>c_();
+		return f -> f_
+			.apply(g_
+				.apply(f))
+			.apply(h_);
+	}	// (Z(S(f))) (C)
+
+	private static <A1, A2, A3> Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A2, Function<A1, A2>>,
+				Function<A2, Function<A1, A3>>>> zzs_t()
+	{
+		return SC.<Function<A1, Function<A2, A3>>, /* B1 */
+				Function<Function<A1, A2>,
+						Function<A1, A3>>,	/* B2 */
+				Function<Function<A2, Function<A1, A2>>, /* B3 */
+					Function<A2, Function<A1, A3>>>>z_()
+			.apply(SC.<A2, /* B1 */
+					Function<A1, A2>,	/* B2 */
+					Function<A1, A3>>z_())	/* B3 */
+			.apply(SC.<A1, A2, A3>s_());
+	}	// ((Z(Z)) (S))
+
+	private static <A1, A2, A3> SC.T<A1, A2, A3> zzsfcyx_()
+	{
+		// ((Z(Z)) (S))
+		final Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A2, Function<A1, A2>>,
+				Function<A2, Function<A1, A3>>>> f_ =
+						StagedSC.<A1, A2, A3>zzs_t();
+
+		// (C)
+		final SC.C<A2, A1> g_ = SC.<A2, A1>c_();
+		return f -> f_
+			.apply(f)
+			.apply(g_);
+	}	// (((Z(Z)) (S)) (f)) (C)
+
+	private static <A1, A2, A3> SC.T<A1, A2, A3> zzsfccfyx_()
+	{
+		// ((Z(Z)) (S))
+		final Function<Function<A1, Function<A2, A3>>,
+				Function<Function<A2, Function<A1, A2>>,
+				Function<A2, Function<A1, A3>>>> f_ =
+						StagedSC.<A1, A2, A3>zzs_t();
+
+		// (C(C))
+		final Function<Function<A1, Function<A2, A3>>,
+				Function<A2, Function<A1, A2>>> g_ = SC
+			.<Function<A2, Function<A1, A2>>,
+				Function<A1, Function<A2, A3>>>c_()
+			.apply(SC.<A2, A1>c_());
+		return f -> f_
+			.apply(f)
+			.apply(g_
+				.apply(f));
+	}	// (((Z(Z)) (S)) (f)) ((C(C)) (f))
+
+	private static <A1, A2, A3> SC.T<A1, A2, A3> szzsccfyx_()
+	{
+		// ((S(((Z(Z)) (S)))) (C(C)))
+		final Function<Function<A1, Function<A2, A3>>,
+				Function<A2, Function<A1, A3>>> hh_ = SC
+			.<Function<A1, Function<A2, A3>>, /* B1 */
+				Function<A2, Function<A1, A2>>,	/* B2 */
+				Function<A2, Function<A1, A3>>>s_() /* B3 */
+			.apply(StagedSC.<A1, A2, A3>zzs_t())
+			.apply(SC.<Function<A2, Function<A1, A2>>,
+					Function<A1, Function<A2, A3>>>c_()
+				.apply(SC.<A2, A1>c_()));
+		return f -> hh_.apply(f);
+	}	// ((S(((Z(Z)) (S)))) (C(C))) (f)
+
+
+
+
+	/* C O M P O S I T I O N. (C, S): 3 + 1 */
+
+	/**
+	 * The staged {@code S(Cf)gx} definition of the composition function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#scfgx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> scfgx()
+	{
+		return (SC.Z<A1, A2, A3>) SCFGX;
+	}
+
+	/**
+	 * The staged {@code (CSf)(Cf)gx} definition of the composition
+	 * function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#csfcfgx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> csfcfgx()
+	{
+		return (SC.Z<A1, A2, A3>) CSFCFGX;
+	}
+
+	/**
+	 * The staged {@code S(CS)Cfgx} definition of the composition function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#scscfgx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> scscfgx()
+	{
+		return (SC.Z<A1, A2, A3>) SCSCFGX;
+	}
+
+	/**
+	 * The shared {@code S(CS)C} definition of the composition function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see SC#scsc()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2, A3> Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>> scsc()
+	{
+		return (Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+				Function<A1, A3>>>) SCSC;
+	}
+
+	private static <A1, A2, A3> SC.Z<A1, A2, A3> scfgx_()
+	{
+		// (S)
+		final SC.S<A1, A2, A3> f_ = SC.<A1, A2, A3>s_();
+
+		// (C)
+		final SC.C<Function<A2, A3>, A1> g_ = SC
+			.<Function<A2, A3>, A1>c_();
+		return f -> f_.apply(g_
+				.apply(f));
+	}	// (S(C(f)))
+
+	private static <A1, A2, A3> SC.Z<A1, A2, A3> csfcfgx_()
+	{
+		// (C(S))
+		final Function<Function<A2, A3>, SC.S<A1, A2, A3>> f_ = SC
+			.<SC.S<A1, A2, A3>, Function<A2, A3>>c_()
+			.apply(SC.<A1, A2, A3>s_());
+
+		// (C)
+		final SC.C<Function<A2, A3>, A1> g_ = SC
+			.<Function<A2, A3>, A1>c_();
+		return f -> f_
+			.apply(f)
+			.apply(g_
+				.apply(f));
+	}	// ((C(S)) (f)) (C(f))
+
+	private static <A1, A2, A3> SC.Z<A1, A2, A3> scscfgx_()
+	{
+		// ((S (C(S))) (C))
+		final Function<Function<A2, A3>,
+				Function<Function<A1, A2>,
+					Function<A1, A3>>> gg_ = SC
+			.<A1, A2, A3>scsc();
+		return f -> gg_.apply(f);
+	}	// ((S(C(S))) (C)) (f)
+
+
+
+
+	/* D U P L I C A T O R. (S; T): 2 + 8 */
+
+	/**
+	 * The staged {@code Sf(SCf)x} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#sfscfx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sfscfx()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) SFSCFX;
+	}
+
+	/**
+	 * The staged {@code SS(SC)fx} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#ssscfx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ssscfx()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) SSSCFX;
+	}
+
+	/**
+	 * The shared {@code SS(SC)} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#sssc()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sssc()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) SSSC;
+	}
+
+	/**
+	 * The staged {@code Tfxx} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#tfxx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tfxx()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TFXX;
+	}
+
+	/**
+	 * The staged {@code TTxfx} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#ttxfx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ttxfx()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TTXFX;
+	}
+
+	/**
+	 * The staged {@code T(TTx)xf} definition of the elementary duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#tttxxf()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tttxxf()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TTTXXF;
+	}
+
+	/**
+	 * The staged {@code (TTx)(TTx)f} definition of the elementary
+	 * duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#ttxttxf()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ttxttxf()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TTXTTXF;
+	}
+
+	/**
+	 * The staged {@code S(TT)(TT)xf} definition of the elementary
+	 * duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#sttttxf()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sttttxf()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) STTTTXF;
+	}
+
+	/**
+	 * The staged {@code T(S(TT)(TT))fx} definition of the elementary
+	 * duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#tsttttfx()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tsttttfx()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TSTTTTFX;
+	}
+
+	/**
+	 * The shared {@code T(S(TT)(TT))} definition of the elementary
+	 * duplicator.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see SC#tstttt()
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tstttt()
+	{
+		return (Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>) TSTTTT;
+	}
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sfscfx_()
+	{
+		// (S)
+		final SC.S<A1, A1, A2> f_ = SC.<A1, A1, A2>s_();
+
+		// (S(C))
+		final Function<Function<A1, Function<A1, A2>>,
+					Function<A1, A1>> ff_ = SC
+			.<A1, /* B1 */
+				Function<A1, A2>,	/* B2 */
+				A1>s_()			/* B3 */
+			.apply(SC.<A1, Function<A1, A2>>c_());
+		return f -> f_
+			.apply(f)
+			.apply(ff_
+				.apply(f));
+	}	// (S(f) ((S(C)) (f)))
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ssscfx_()
+	{
+		// ((S(S)) (S(C)))
+		final Function<Function<A1, Function<A1, A2>>,
+					Function<A1, A2>> gg_ = SC
+			.<A1, A2>sssc();
+		return f -> gg_.apply(f);
+	}	// ((S(S)) (S(C))) (f)
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tfxx_()
+	{
+		// (T)
+		final SC.T<A1, A1, A2> f_ = SC.<A1, A1, A2>t_();
+		return f -> {
+			// (T(f))
+			final Function<A1, Function<A1, A2>> g_ = f_.apply(f);
+			return x -> g_
+				.apply(x)
+				.apply(x);
+		};
+	}	// ((T(f)) (x)) (x)
+
+	private static <A1, A2> Function<A1,
+				Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>> tt_w()
+	{
+		return SC.<Function<A1, Function<A1, A2>>, /* B1 */
+				A1,			/* B2 */
+				Function<A1, A2>>t_()	/* B3 */
+			.apply(SC.<A1, A1, A2>t_());
+	}	// (T(T))
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ttxfx_()
+	{
+		// (T(T))
+		final Function<A1,
+				Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>> f_ = StagedSC.<A1, A2>tt_w();
+		return f -> x -> f_
+			.apply(x)
+			.apply(f)
+			.apply(x);
+	}	// (((T(T)) (x)) (f)) (x)
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tttxxf_()
+	{
+		// (T)
+		final SC.T<Function<A1, Function<A1, A2>>, A1, A2> f_ = SC
+			.<Function<A1, Function<A1, A2>>, /* B1 */
+				A1,		/* B2 */
+				A2>t_();	/* B3 */
+
+		// (T(T))
+		final Function<A1,
+				Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>> g_ = StagedSC.<A1, A2>tt_w();
+		return f -> x -> f_
+			.apply(g_
+				.apply(x))
+			.apply(x)
+			.apply(f);
+	}	// ((T(((T(T)) (x)))) (x)) (f)
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> ttxttxf_()
+	{
+		// (T(T))
+		final Function<A1,
+				Function<Function<Function<A1, Function<A1, A2>>,
+							Function<A1, A2>>,
+					Function<Function<A1, Function<A1, A2>>,
+								A2>>> f_ = SC
+			.<Function<Function<A1, Function<A1, A2>>,
+						Function<A1, A2>>, /* B1 */
+				A1,			/* B2 */
+				Function<Function<A1, Function<A1, A2>>,
+					A2>>t_()	/* B3 */
+			.apply(SC.<Function<A1, Function<A1, A2>>, /* B1 */
+					A1,		/* B2 */
+					A2>t_());	/* B3 */
+
+		// (T(T))
+		final Function<A1,
+				Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>>> g_ = StagedSC.<A1, A2>tt_w();
+		return f -> x -> f_
+			.apply(x)
+			.apply(g_
+				.apply(x))
+			.apply(f);
+	}	// (((T(T)) (x)) ((T(T)) (x))) (f)
+
+	private static <A1, A2> Function<A1,
+				Function<Function<A1, Function<A1, A2>>, A2>>
+								stttt_w()
+	{
+		return SC.<A1, /* B1 */
+				Function<Function<A1, Function<A1, A2>>,
+						Function<A1, A2>>, /* B2 */
+				Function<Function<A1, Function<A1, A2>>,
+						A2>>s_()	/* B3 */
+			.apply(SC.<Function<Function<A1, Function<A1, A2>>,
+						Function<A1, A2>>, /* B1 */
+					A1,			/* B2 */
+					Function<Function<A1, Function<A1, A2>>,
+						A2>>t_()	/* B3 */
+				.apply(SC.<Function<A1, Function<A1, A2>>, /* B1 */
+						A1,		/* B2 */
+						A2>t_()))	/* B3 */
+			.apply(StagedSC.<A1, A2>tt_w());
+	}	// ((S((T(T)))) (T(T)))
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> sttttxf_()
+	{
+		// ((S(T(T))) (T(T)))
+		final Function<A1,
+				Function<Function<A1, Function<A1, A2>>, A2>> f_ =
+						StagedSC.<A1, A2>stttt_w();
+		return f -> x -> f_
+			.apply(x)
+			.apply(f);
+	}	// (((S(T(T))) (T(T))) (x)) (f)
+
+	private static <A1, A2> Function<Function<A1, Function<A1, A2>>,
+				Function<A1, A2>> tsttttfx_()
+	{
+		// (T(((S(T(T))) (T(T)))))
+		final Function<Function<A1, Function<A1, A2>>,
+					Function<A1, A2>> h_ = SC
+			.<A1, /* B1 */
+				Function<A1, Function<A1, A2>>,	/* B2 */
+				A2>t_()				/* B3 */
+			.apply(StagedSC.<A1, A2>stttt_w());
+		return f -> h_.apply(f);
+	}	// ((T(((S(T(T))) (T(T))))) (f))
+}
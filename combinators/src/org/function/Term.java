@@ -0,0 +1,344 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A combinatory term, that is, either a primitive combinator, a literal
+ * value, or an application of a term to another term.
+ * <p>
+ * Terms are immutable and may share their subterms, so that a term is
+ * a directed acyclic graph rather than a tree.  They are written in the
+ * notation of <a href="Combinators.html#3">[3]</a>, where application
+ * associates to the left, e.g. {@code S(ZZS)(CC)} stands for
+ * {@code (S((ZZ)S))(CC)}.
+ *
+ * @see Combinators
+ * @see GraphReducer
+ */
+public sealed interface Term
+{
+	/**
+	 * Returns the number of combinator and literal occurrences of this
+	 * term, counted as if the term were unfolded into a tree, or
+	 * {@link Long#MAX_VALUE} if there are more occurrences than that.
+	 *
+	 * @return the size of this term
+	 */
+	long size();
+
+	/**
+	 * Returns the application of a term to the passed terms, in turn.
+	 *
+	 * @param function a term
+	 * @param arguments terms
+	 * @return an application, or the passed function, if there are no
+	 *	arguments
+	 */
+	static Term app(Term function, Term... arguments)
+	{
+		Term term = Objects.requireNonNull(function, "function");
+
+		for (Term argument : arguments)
+			term = new App(term, argument);
+
+		return term;
+	}
+
+	/**
+	 * Returns a literal term for the passed value.
+	 * <p>
+	 * A literal whose value is a {@link java.util.function.Function
+	 * Function} is applied to the value of its argument when reduced;
+	 * any other literal is an irreducible constant.
+	 *
+	 * @param value a value
+	 * @return a literal term
+	 */
+	static Term lit(Object value)		{ return new Lit(value); }
+
+	/**
+	 * Parses a term written with the letters {@code I}, {@code C},
+	 * {@code T}, {@code Z}, {@code S}, and {@code W} and parentheses.
+	 * Whitespace is ignored.
+	 *
+	 * @param text a written term
+	 * @return a term
+	 * @throws IllegalArgumentException if the text is not a term
+	 */
+	static Term parse(CharSequence text)
+	{
+		final List<Term> groups = new ArrayList<>();	/* Nullable. */
+		Term term = null;
+
+		for (int i = 0, j = text.length(); i < j; ++i) {
+			final char c = text.charAt(i);
+
+			switch (c) {
+			case '(':
+				groups.add(term);
+				term = null;
+				continue;
+			case ')':
+				if (term == null || groups.isEmpty())
+					throw unexpected(text, i);
+
+				final Term left = groups
+					.remove(groups.size() - 1);
+				term = (left == null)
+					? term
+					: new App(left, term);
+				continue;
+			default:
+				if (Character.isWhitespace(c))
+					continue;
+			}
+
+			final Term primitive;
+
+			try {
+				primitive = Combinator.valueOf(String.valueOf(c));
+			} catch (final IllegalArgumentException ignored) {
+				throw unexpected(text, i);
+			}
+
+			term = (term == null)
+				? primitive
+				: new App(term, primitive);
+		}
+
+		if (term == null || !groups.isEmpty())
+			throw new IllegalArgumentException("Incomplete term");
+
+		return term;
+	}
+
+	private static IllegalArgumentException unexpected(CharSequence text,
+								int index)
+	{
+		return new IllegalArgumentException(new StringBuilder()
+			.append("Unexpected '")
+			.append(text.charAt(index))
+			.append("' at ")
+			.append(index)
+			.toString());
+	}
+
+	/**
+	 * The primitive combinators of {@link Combinators}.
+	 */
+	enum Combinator implements Term
+	{
+		/** Ix = x. @see Combinators#i() */
+		I(1),
+
+		/** Cxy = x. @see Combinators#c() */
+		C(2),
+
+		/** Tfyx = fxy. @see Combinators#t() */
+		T(3),
+
+		/** Zfgx = f(gx). @see Combinators#z() */
+		Z(3),
+
+		/** Sfgx = (fx)(gx). @see Combinators#s() */
+		S(3),
+
+		/** Wfx = fxx. @see Combinators#w() */
+		W(2);
+
+		private final int arity;
+
+		private Combinator(int arity)	{ this.arity = arity; }
+
+		/**
+		 * Returns the number of arguments that this combinator takes
+		 * before it can be rewritten.
+		 *
+		 * @return the arity of this combinator
+		 */
+		public int arity()		{ return arity; }
+
+		/**
+		 * Returns the curried function of {@link Combinators} that this
+		 * combinator stands for.
+		 *
+		 * @return a curried function
+		 */
+		public Function<?, ?> function()
+		{
+			switch (this) {
+			case I:
+				return Combinators.i();
+			case C:
+				return Combinators.c();
+			case T:
+				return Combinators.t();
+			case Z:
+				return Combinators.z();
+			case S:
+				return Combinators.s();
+			case W:
+				return Combinators.w();
+			default:
+				throw new AssertionError(this);
+			}
+		}
+
+		@Override
+		public long size()		{ return 1L; }
+	}
+
+	/**
+	 * An application of a term to another term.
+	 */
+	final class App implements Term
+	{
+		private final Term function;
+		private final Term argument;
+		private final long size;
+		private final int hash;
+
+		App(Term function, Term argument)
+		{
+			this.function = Objects.requireNonNull(function,
+								"function");
+			this.argument = Objects.requireNonNull(argument,
+								"argument");
+			final long size = function.size() + argument.size();
+			this.size = (size < 0L) ? Long.MAX_VALUE : size;
+			this.hash = 31 * function.hashCode()
+						+ argument.hashCode();
+		}
+
+		/**
+		 * Returns the applied term.
+		 *
+		 * @return the applied term
+		 */
+		public Term function()		{ return function; }
+
+		/**
+		 * Returns the term applied to.
+		 *
+		 * @return the term applied to
+		 */
+		public Term argument()		{ return argument; }
+
+		@Override
+		public long size()		{ return size; }
+
+		@Override
+		public int hashCode()		{ return hash; }
+
+		@Override
+		public boolean equals(Object that)
+		{
+			if (this == that)
+				return true;
+
+			if (!(that instanceof App))
+				return false;
+
+			/* Compare pairs of subterms without recursion. */
+			final Deque<Term> pending = new ArrayDeque<>();
+			pending.push(this);
+			pending.push((App) that);
+
+			while (!pending.isEmpty()) {
+				final Term right = pending.pop();
+				final Term left = pending.pop();
+
+				if (left == right)
+					continue;
+
+				if (!(left instanceof App l)
+						|| !(right instanceof App r)) {
+					if (!left.equals(right))
+						return false;
+
+					continue;
+				}
+
+				if (l.hash != r.hash || l.size != r.size)
+					return false;
+
+				pending.push(l.argument);
+				pending.push(r.argument);
+				pending.push(l.function);
+				pending.push(r.function);
+			}
+
+			return true;
+		}
+
+		@Override
+		public String toString()
+		{
+			final StringBuilder builder = new StringBuilder();
+			write(this, builder);
+			return builder.toString();
+		}
+
+		private static void write(Term term, StringBuilder builder)
+		{
+			if (term instanceof App app) {
+				write(app.function, builder);
+
+				if (app.argument instanceof App) {
+					builder.append('(');
+					write(app.argument, builder);
+					builder.append(')');
+				} else {
+					write(app.argument, builder);
+				}
+			} else {
+				builder.append(term);
+			}
+		}
+	}
+
+	/**
+	 * A literal value.
+	 */
+	final class Lit implements Term
+	{
+		private final Object value;
+
+		Lit(Object value)		{ this.value = value; }
+
+		/**
+		 * Returns the value of this literal.
+		 *
+		 * @return the value of this literal
+		 */
+		public Object value()		{ return value; }
+
+		@Override
+		public long size()		{ return 1L; }
+
+		@Override
+		public int hashCode()		{ return Objects.hashCode(value); }
+
+		@Override
+		public boolean equals(Object that)
+		{
+			return (this == that || that instanceof Lit lit
+					&& Objects.equals(value, lit.value));
+		}
+
+		@Override
+		public String toString()
+		{
+			return new StringBuilder()
+				.append('<')
+				.append(value)
+				.append('>')
+				.toString();
+		}
+	}
+}
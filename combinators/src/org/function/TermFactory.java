@@ -0,0 +1,372 @@
+package org.function;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A hash-consing factory of {@link Term terms}, that is, a factory that
+ * returns one canonical term for every structure, so that two terms
+ * obtained from the same factory are equal if and only if they are the
+ * same object.
+ * <p>
+ * E.g. the four copies of {@code S((S(CS)C)(S(CS)C)S)(CC)} in the
+ * expansion of {@code W} documented on {@link Combinators#w()} become one
+ * shared subterm, whose equality to any other canonical term costs one
+ * reference comparison rather than a traversal, and whose identity makes
+ * a cheap key, e.g. in an {@link IdentityHashMap}.
+ * <p>
+ * Canonical terms are held by weak references, so that a term that is no
+ * longer referenced elsewhere is reclaimed rather than kept by its
+ * factory.  The references are spread over lock stripes by the structural
+ * hash of their terms, so that threads, e.g. the workers of
+ * a {@link GraphReducer}, that intern terms of different hashes do not
+ * contend for the same lock.
+ *
+ * @see Term
+ */
+public final class TermFactory
+{
+	private static final int DEFAULT_STRIPES = 16;
+
+	private final Stripe[] stripes;
+
+	private TermFactory(int stripes)
+	{
+		this.stripes = new Stripe[stripes];
+
+		/* Index the chains of a stripe by the bits above its index. */
+		final int shift = Integer.numberOfTrailingZeros(stripes);
+
+		for (int i = 0; i < stripes; ++i)
+			this.stripes[i] = new Stripe(shift);
+	}
+
+	/**
+	 * Returns a new factory of a default number of lock stripes.
+	 *
+	 * @return a new factory
+	 */
+	public static TermFactory newInstance()
+	{
+		return new TermFactory(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Returns a new factory of at least the passed number of lock
+	 * stripes, i.e. of threads that may intern terms without contention.
+	 *
+	 * @param concurrency the number of lock stripes
+	 * @return a new factory
+	 * @throws IllegalArgumentException if the concurrency is not positive
+	 */
+	public static TermFactory newInstance(int concurrency)
+	{
+		if (concurrency < 1)
+			throw new IllegalArgumentException(Integer
+						.toString(concurrency));
+
+		return new TermFactory((concurrency > 1 << 16)
+			? 1 << 16
+			: Math.max(1, Integer.highestOneBit(concurrency - 1)
+								<< 1));
+	}
+
+	/**
+	 * Returns the canonical application of a term to the passed terms, in
+	 * turn.
+	 *
+	 * @param function a term
+	 * @param arguments terms
+	 * @return a canonical application, or the canonical passed function,
+	 *	if there are no arguments
+	 * @see Term#app(Term, Term...)
+	 */
+	public Term app(Term function, Term... arguments)
+	{
+		Term term = intern(function);
+
+		for (Term argument : arguments)
+			term = canonical(term, intern(argument), null);
+
+		return term;
+	}
+
+	/**
+	 * Returns the canonical literal term for the passed value.
+	 *
+	 * @param value a value
+	 * @return a canonical literal term
+	 * @see Term#lit(Object)
+	 */
+	public Term lit(Object value)		{ return canonical(value, null); }
+
+	/**
+	 * Parses a term and returns its canonical term.
+	 *
+	 * @param text a written term
+	 * @return a canonical term
+	 * @throws IllegalArgumentException if the text is not a term
+	 * @see Term#parse(CharSequence)
+	 */
+	public Term parse(CharSequence text)
+	{
+		return intern(Term.parse(text));
+	}
+
+	/**
+	 * Returns the canonical term that is equal to the passed term.
+	 * <p>
+	 * A canonical term is returned as it is, without a traversal; any
+	 * other term is made canonical from its leaves up, and every subterm
+	 * whose subterms are already canonical is itself kept as canonical,
+	 * when there is no canonical term equal to it yet.
+	 *
+	 * @param term a term
+	 * @return a canonical term
+	 */
+	public Term intern(Term term)
+	{
+		Objects.requireNonNull(term, "term");
+
+		if (term instanceof Term.Combinator || isCanonical(term))
+			return term;
+
+		/* Intern the subterms before their terms without recursion. */
+		final Map<Term, Term> interned = new IdentityHashMap<>();
+		final Deque<Term> pending = new ArrayDeque<>();
+		pending.push(term);
+
+		while (!pending.isEmpty()) {
+			final Term next = pending.peek();
+
+			if (interned.containsKey(next)) {
+				pending.pop();
+			} else if (next instanceof Term.Combinator
+						|| isCanonical(next)) {
+				interned.put(pending.pop(), next);
+			} else if (next instanceof Term.Lit lit) {
+				interned.put(pending.pop(),
+						canonical(lit.value(), lit));
+			} else {
+				final Term.App app = (Term.App) next;
+				final Term function = interned.get(app.function());
+				final Term argument = interned.get(app.argument());
+
+				if (function == null)
+					pending.push(app.function());
+
+				if (argument == null)
+					pending.push(app.argument());
+
+				if (function == null || argument == null)
+					continue;
+
+				interned.put(pending.pop(), canonical(function,
+						argument,
+						(function == app.function()
+						&& argument == app.argument())
+							? app
+							: null));
+			}
+		}
+
+		return interned.get(term);
+	}
+
+	/**
+	 * Returns the number of canonical terms of this factory, some of which
+	 * may be no longer referenced elsewhere and may be about to be
+	 * reclaimed.  Primitive combinators, which are canonical terms of
+	 * every factory, are not counted.
+	 *
+	 * @return the number of canonical terms
+	 */
+	public int size()
+	{
+		int size = 0;
+
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				stripe.expunge();
+				size += stripe.count;
+			}
+		}
+
+		return size;
+	}
+
+	private Stripe stripe(int hash)
+	{
+		return stripes[hash & (stripes.length - 1)];
+	}
+
+	private boolean isCanonical(Term term)
+	{
+		final int hash = term.hashCode();
+		final Stripe stripe = stripe(hash);
+
+		synchronized (stripe) {
+			for (Entry entry = stripe.bucket(hash);
+							entry != null;
+							entry = entry.next) {
+				if (entry.get() == term)
+					return true;
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * Returns the canonical application of the passed canonical terms,
+	 * which is the passed candidate application of them, if any, when
+	 * there is no canonical application yet.
+	 */
+	private Term canonical(Term function, Term argument, Term.App candidate)
+	{
+		final int hash = 31 * function.hashCode() + argument.hashCode();
+		final Stripe stripe = stripe(hash);
+
+		synchronized (stripe) {
+			stripe.expunge();
+
+			for (Entry entry = stripe.bucket(hash);
+							entry != null;
+							entry = entry.next) {
+				if (entry.hash == hash && entry.get()
+						instanceof Term.App app
+						&& app.function() == function
+						&& app.argument() == argument)
+					return app;
+			}
+
+			return stripe.insert((candidate == null)
+					? new Term.App(function, argument)
+					: candidate,
+				hash);
+		}
+	}
+
+	/*
+	 * Returns the canonical literal term for the passed value, which is
+	 * the passed candidate literal term, if any, when there is no
+	 * canonical literal term yet.
+	 */
+	private Term canonical(Object value, Term.Lit candidate)
+	{
+		final int hash = Objects.hashCode(value);
+		final Stripe stripe = stripe(hash);
+
+		synchronized (stripe) {
+			stripe.expunge();
+
+			for (Entry entry = stripe.bucket(hash);
+							entry != null;
+							entry = entry.next) {
+				if (entry.hash == hash && entry.get()
+						instanceof Term.Lit lit
+						&& Objects.equals(lit.value(), value))
+					return lit;
+			}
+
+			return stripe.insert((candidate == null)
+					? new Term.Lit(value)
+					: candidate,
+				hash);
+		}
+	}
+
+	/** A weak reference to a canonical term in a chain of a stripe. */
+	private static final class Entry extends WeakReference<Term>
+	{
+		private final int hash;
+		private Entry next;
+
+		Entry(Term term, int hash, Entry next,
+					ReferenceQueue<Term> queue)
+		{
+			super(term, queue);
+			this.hash = hash;
+			this.next = next;
+		}
+	}
+
+	/** A chained hash table of weak references, guarded by itself. */
+	private static final class Stripe
+	{
+		private final ReferenceQueue<Term> queue = new ReferenceQueue<>();
+		private final int shift;
+		private Entry[] table = new Entry[16];
+		private int count;
+
+		Stripe(int shift)			{ this.shift = shift; }
+
+		Entry bucket(int hash)			{ return table[index(hash)]; }
+
+		Term insert(Term term, int hash)
+		{
+			if (count >= table.length - (table.length >>> 2))
+				resize();
+
+			final int index = index(hash);
+			table[index] = new Entry(term, hash, table[index], queue);
+			++count;
+			return term;
+		}
+
+		void expunge()
+		{
+			for (Reference<? extends Term> reference = queue.poll();
+						reference != null;
+						reference = queue.poll()) {
+				final Entry stale = (Entry) reference;
+				final int index = index(stale.hash);
+				Entry previous = null;
+
+				for (Entry entry = table[index]; entry != null;
+							entry = entry.next) {
+					if (entry == stale) {
+						if (previous == null)
+							table[index] = entry.next;
+						else
+							previous.next = entry.next;
+
+						--count;
+						break;
+					}
+
+					previous = entry;
+				}
+			}
+		}
+
+		private int index(int hash)
+		{
+			return (hash >>> shift) & (table.length - 1);
+		}
+
+		private void resize()
+		{
+			final Entry[] table = new Entry[this.table.length << 1];
+
+			for (Entry head : this.table) {
+				for (Entry entry = head, next; entry != null;
+							entry = next) {
+					next = entry.next;
+					final int index = (entry.hash >>> shift)
+							& (table.length - 1);
+					entry.next = table[index];
+					table[index] = entry;
+				}
+			}
+
+			this.table = table;
+		}
+	}
+}
@@ -0,0 +1,406 @@
+package org.function;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class TermTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	/* The derivations documented in Combinators, by their combinators. */
+	static final Map<String, Term.Combinator> DERIVATIONS = Map.of(
+		"SCC", Term.Combinator.I,
+		"S(ZZS)(CC)", Term.Combinator.T,
+		"S((S(CS)C)(S(CS)C)S)(CC)", Term.Combinator.T,
+		"S(CS)C", Term.Combinator.Z,
+		"SS(SC)", Term.Combinator.W,
+		"T(S(TT)(TT))", Term.Combinator.W);
+
+	private TermTests() { /* No instantiation. */ }
+
+	/* Applies the passed term to as many distinct literals. */
+	static Term applyToHoles(Term term, int arity)
+	{
+		Term application = term;
+
+		for (int i = 0; i < arity; ++i)
+			application = Term.app(application, Term.lit(i));
+
+		return application;
+	}
+
+	/* Computes in a thread of a far smaller stack than the default. */
+	static <A1> A1 inSmallStack(Function<Void, A1> computation)
+	{
+		final AtomicReference<A1> result = new AtomicReference<>();
+		final Thread thread = new Thread(null,
+			() -> result.set(computation.apply(null)),
+			"small-stack",
+			256L * 1024L);
+		thread.start();
+
+		try {
+			thread.join();
+		} catch (final InterruptedException e) {
+			throw new AssertionError(e);
+		}
+
+		return result.get();
+	}
+
+	static void testParse(boolean inConcurrence)
+	{
+		final Term t = Term.parse("S(ZZS)(CC)");
+		assert "S(ZZS)(CC)".equals(t.toString());
+		assert t.size() == 6L;
+		assert t.equals(Term.parse(" S ( Z Z S ) ( C C ) "));
+		assert t.equals(Term.app(Term.Combinator.S,
+			Term.app(Term.Combinator.Z,
+				Term.Combinator.Z,
+				Term.Combinator.S),
+			Term.app(Term.Combinator.C,
+				Term.Combinator.C)));
+
+		for (String text : Set.of("", "()", "S(", "S)", "SK"))
+			try {
+				Term.parse(text);
+				assert false : text;
+			} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void testNormalize(boolean inConcurrence)
+	{
+		final GraphReducer reducer = GraphReducer.newInstance();
+		DERIVATIONS.forEach((text, combinator) -> {
+			assert reducer
+				.normalize(applyToHoles(Term.parse(text),
+						combinator.arity()))
+				.equals(reducer
+					.normalize(applyToHoles(combinator,
+						combinator.arity())))
+				: text;
+		});
+		assert reducer.steps() > 0L;
+	}
+
+	static void testSharing(boolean inConcurrence)
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final Function<Integer, Function<Integer, Integer>> multiplier =
+							x -> y -> x * y;
+		final Function<Integer, Integer> squarer = x -> {
+			calls.incrementAndGet();
+			return x * x;
+		};
+		final GraphReducer reducer = GraphReducer.newInstance();
+
+		/* W(*)(square 2), where the argument is reduced once. */
+		assert Integer.valueOf(16).equals(reducer
+			.evaluate(Term.app(Term.Combinator.W,
+				Term.lit(multiplier),
+				Term.app(Term.lit(squarer),
+					Term.lit(2)))));
+		assert calls.get() == 1;
+
+		/* S(*)(square)(3), where the argument is not duplicated. */
+		calls.set(0);
+		assert Integer.valueOf(27).equals(reducer
+			.evaluate(Term.app(Term.Combinator.S,
+				Term.lit(multiplier),
+				Term.lit(squarer),
+				Term.lit(3))));
+		assert calls.get() == 1;
+	}
+
+	static void testCache(boolean inConcurrence)
+	{
+		final NormalFormCache cache = NormalFormCache.newInstance(2);
+		final GraphReducer reducer = GraphReducer.newInstance(cache);
+		final Term t = applyToHoles(Term.parse(
+					"S((S(CS)C)(S(CS)C)S)(CC)"), 3);
+		final Term normalForm = reducer.normalize(t);
+		final long steps = reducer.steps();
+		assert cache.hits() == 0L && cache.size() == 1;
+
+		/* Its subterms were probed, but only its lookup missed. */
+		assert cache.misses() == 1L;
+
+		/* A hit costs no steps. */
+		assert normalForm == reducer.normalize(applyToHoles(Term.parse(
+					"S((S(CS)C)(S(CS)C)S)(CC)"), 3));
+		assert reducer.steps() == steps && cache.hits() == 1L;
+
+		/* A cached subterm is loaded in place of its term. */
+		final Term w = Term.app(t, Term.Combinator.I);
+		assert Term.app(Term.lit(0), Term.lit(2), Term.lit(1),
+						Term.Combinator.I)
+				.equals(reducer.normalize(w));
+		assert reducer.steps() == steps && cache.hits() == 2L;
+		assert cache.misses() == 2L;
+
+		/* An opted-out reduction takes every step. */
+		assert normalForm.equals(reducer.normalize(t, false));
+		assert reducer.steps() > steps && cache.hits() == 2L;
+
+		/* The least recently used entry is evicted. */
+		reducer.normalize(Term.parse("SCCC"));
+		assert cache.evictions() == 1L && cache.size() == 2;
+		assert cache.get(w) != null && cache.get(t) == null;
+
+		/* Reducers in several threads share a striped cache. */
+		final NormalFormCache shared = NormalFormCache.newInstance(1 << 10,
+							TermFactory.newInstance());
+		Stream.of(0, 1, 2, 3)
+			.parallel()
+			.forEach(i -> {
+				assert normalForm.equals(GraphReducer
+					.newInstance(shared)
+					.normalize(t));
+			});
+		assert shared.size() == 1 && shared.misses() >= 1L
+				&& shared.hits() + shared.misses() == 4L;
+	}
+
+	static void testFunction(boolean inConcurrence)
+	{
+		final GraphReducer reducer = GraphReducer.newInstance();
+		final Term t = Term.parse("S(ZZS)(CC)");
+		assert ".".equals(reducer
+			.<Function<String, Function<Void, String>>,
+				Function<Void,
+				Function<String, String>>>function(t)
+			.apply(Combinators.<String, Void>c())
+			.apply(null)
+			.apply("."));
+		assert "ab".equals(reducer
+			.<Function<String, Function<String, String>>,
+				Function<String,
+				Function<String, String>>>function(t)
+			.apply(x -> y -> x + y)
+			.apply("b")
+			.apply("a"));
+	}
+
+	static void testAbstraction(boolean inConcurrence)
+	{
+		final Lambda f = Lambda.var("f");
+		final Lambda g = Lambda.var("g");
+		final Lambda x = Lambda.var("x");
+		final Lambda y = Lambda.var("y");
+		final Map<Lambda, Term.Combinator> lambdas = Map.of(
+			Lambda.abs(x, "x"), Term.Combinator.I,
+			Lambda.abs(x, "x", "y"), Term.Combinator.C,
+			Lambda.abs(Lambda.app(f, x, y), "f", "y", "x"),
+							Term.Combinator.T,
+			Lambda.abs(Lambda.app(f, Lambda.app(g, x)),
+					"f", "g", "x"), Term.Combinator.Z,
+			Lambda.abs(Lambda.app(f, x, Lambda.app(g, x)),
+					"f", "g", "x"), Term.Combinator.S,
+			Lambda.abs(Lambda.app(f, x, x), "f", "x"),
+							Term.Combinator.W);
+		final GraphReducer reducer = GraphReducer.newInstance();
+
+		for (BracketAbstraction abstraction :
+					BracketAbstraction.values()) {
+			for (Map.Entry<Lambda, Term.Combinator> entry :
+						lambdas.entrySet()) {
+				final int arity = entry.getValue().arity();
+				assert reducer
+					.normalize(applyToHoles(abstraction
+							.compile(entry.getKey()),
+						arity))
+					.equals(reducer
+						.normalize(applyToHoles(
+							entry.getValue(),
+							arity)))
+					: entry.getKey();
+			}
+
+			try {
+				abstraction.compile(Lambda.abs(y, "x"));
+				assert false : abstraction;
+			} catch (final IllegalArgumentException expected) { }
+		}
+
+		/* \a.\b.\c.\d.\e. e d c b a */
+		final String[] names = { "a", "b", "c", "d", "e" };
+		Lambda body = Lambda.var(names[names.length - 1]);
+
+		for (int i = names.length - 1; i-- > 0; )
+			body = Lambda.app(body, Lambda.var(names[i]));
+
+		final Lambda reversal = Lambda.abs(body, names);
+		final long naive = BracketAbstraction.NAIVE
+			.compile(reversal)
+			.size();
+		final long turner = BracketAbstraction.TURNER
+			.compile(reversal)
+			.size();
+		final long kiselyov = BracketAbstraction.KISELYOV
+			.compile(reversal)
+			.size();
+		assert naive > turner && naive > kiselyov;
+	}
+
+	static void testOptimize(boolean inConcurrence)
+	{
+		final Optimizer optimizer = Optimizer.newInstance();
+		Map.of("SCC", Term.Combinator.I,
+			"S(ZZS)(CC)", Term.Combinator.T,
+			"S((S(CS)C)(S(CS)C)S)(CC)", Term.Combinator.T,
+			"S(CS)C", Term.Combinator.Z,
+			"SS(SC)", Term.Combinator.W,
+			"T(S(TT)(TT))", Term.Combinator.W,
+			"SCCS", Term.Combinator.S,
+			"S(CT)I", Term.Combinator.T,
+			"CZ(WW)", Term.Combinator.Z)
+			.forEach((text, combinator) -> {
+				assert combinator.equals(optimizer
+					.optimize(Term.parse(text))) : text;
+			});
+		assert optimizer.applications(Optimizer.Rule.IDENTITY) == 2L;
+		assert optimizer.applications(Optimizer.Rule.COMPOSITION) == 3L;
+		assert optimizer.statistics().values()
+			.stream()
+			.mapToLong(Long::longValue)
+			.sum() == 12L;
+
+		final Term w = Term.parse("S(SCC)(SS(SC))");
+		assert Term.parse("SIW").equals(Optimizer
+			.newInstance(EnumSet.of(
+					Optimizer.Rule.IDENTITY,
+					Optimizer.Rule.DUPLICATION))
+			.optimize(w));
+		assert w == Optimizer
+			.newInstance(Set.of())
+			.optimize(w);
+	}
+
+	static void testIntern(boolean inConcurrence)
+	{
+		final TermFactory factory = TermFactory.newInstance();
+		final String t = "S((S(CS)C)(S(CS)C)S)(CC)";
+		final String w = new StringBuilder()
+			.append('(').append(t).append(")(S(")
+			.append('(').append(t).append(")(").append(t).append("))(")
+			.append('(').append(t).append(")(").append(t).append(")))")
+			.toString();
+		final Term parsed = Term.parse(w);
+		final Term interned = factory.intern(parsed);
+		assert interned.equals(parsed);
+		assert interned == factory.intern(interned);
+		assert interned == factory.parse(w);
+
+		/* 8 distinct applications in T, 4 more in W. */
+		assert factory.size() == 12 : factory.size();
+
+		/* (T)(S(TT)(TT)), where every T is the same subterm. */
+		final Term.App app = (Term.App) interned;
+		final Term.App tt = (Term.App) ((Term.App) app.argument())
+							.argument();
+		assert app.function() == factory.parse(t);
+		assert tt.function() == app.function()
+					&& tt.argument() == app.function();
+		assert factory.app(Term.Combinator.C, Term.Combinator.C)
+				== factory.intern(Term.parse("CC"));
+		assert factory.lit(0) == factory.intern(Term.lit(0));
+		assert factory.lit(0) != factory.lit(1);
+		assert factory.size() == 14 : factory.size();
+
+		/* Threads that intern equal terms obtain the same term. */
+		final TermFactory shared = TermFactory.newInstance(4);
+		final Term[] terms = new Term[4];
+		Stream.of(0, 1, 2, 3)
+			.parallel()
+			.forEach(i -> terms[i] = shared.parse(w));
+		assert terms[0] == terms[1] && terms[1] == terms[2]
+						&& terms[2] == terms[3];
+		assert shared.size() == 12 : shared.size();
+
+		/* A single lock stripe serves every thread. */
+		final TermFactory single = TermFactory.newInstance(1);
+		assert single.parse(w) == single.intern(parsed);
+		assert single.size() == 12 : single.size();
+	}
+
+	static void testCompile(boolean inConcurrence) throws Throwable
+	{
+		assert MethodHandleCompiler.arity(Term.parse("SCC")) == 1;
+		assert MethodHandleCompiler.arity(Term.parse("S(ZZS)(CC)")) == 3;
+		assert MethodHandleCompiler.arity(Term.parse("SS(SC)")) == 2;
+
+		final Function<Integer, Function<Integer, Integer>> subtracter =
+							x -> y -> x - y;
+		assert Integer.valueOf(1).equals(MethodHandleCompiler
+			.compile(Term.parse("S((S(CS)C)(S(CS)C)S)(CC)"), 3)
+			.invoke(subtracter, 2, 3));
+		assert subtracter == MethodHandleCompiler
+			.compile(Term.parse("SCC"), 1)
+			.invoke(subtracter);
+
+		/* W(*)x, where the literal is kept as a constant. */
+		final Function<Integer, Function<Integer, Integer>> multiplier =
+							x -> y -> x * y;
+		assert Integer.valueOf(9).equals(MethodHandleCompiler
+			.<Integer, Integer>function(Term.app(
+					Term.parse("T(S(TT)(TT))"),
+					Term.lit(multiplier)))
+			.apply(3));
+		assert Integer.valueOf(-1).equals(MethodHandleCompiler
+			.<Function<Integer, Function<Integer, Integer>>,
+				Function<Integer,
+				Function<Integer, Integer>>>function(
+					Term.parse("S(ZZS)(CC)"))
+			.apply(subtracter)
+			.apply(3)
+			.apply(2));
+
+		try {
+			MethodHandleCompiler.function(Term.lit(0));
+			assert false;
+		} catch (final IllegalArgumentException expected) { }
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testParse(concurrent),
+					concurrent -> testNormalize(concurrent),
+					concurrent -> testSharing(concurrent),
+					concurrent -> testCache(concurrent),
+					concurrent -> testFunction(concurrent),
+					concurrent -> testAbstraction(concurrent),
+					concurrent -> testOptimize(concurrent),
+					concurrent -> testIntern(concurrent),
+					concurrent -> {
+						try {
+							testCompile(concurrent);
+						} catch (final Throwable t) {
+							throw new AssertionError(t);
+						}
+					}))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
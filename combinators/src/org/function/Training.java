@@ -0,0 +1,39 @@
+package org.function;
+
+/**
+ * A training run for a dynamic archive of class data sharing (AppCDS).
+ * <p>
+ * Every definition of {@link SC} and {@link StagedSC} is a nest of lambda
+ * expressions, each of which is linked by an {@code invokedynamic}
+ * bootstrap into a hidden class on its first use.  This run obtains and
+ * applies every {@link Derivations derivation} of {@code I}, {@code T},
+ * {@code Z}, and {@code W} once, so that a JVM that runs it with the option
+ * {@code -XX:ArchiveClassesAtExit} archives these classes, and a later JVM
+ * that runs with {@code -XX:SharedArchiveFile} maps them rather than
+ * loads and links them anew.
+ *
+ * @see Derivations
+ */
+final class Training
+{
+	private Training() { /* No instantiation. */ }
+
+	/**
+	 * Applies every derivation of the registries of {@link Derivations}.
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args)
+	{
+		Derivations.identity().warmUp(1);
+		Derivations.interchange().warmUp(1);
+		Derivations.composition().warmUp(1);
+		Derivations.duplicator().warmUp(1);
+		Combinators.<Object, Object>c()
+			.apply(Combinators.<Object, Object, Object>s()
+				.apply(x -> y -> y)
+				.apply(x -> x)
+				.apply(Training.class))
+			.apply(null);
+	}
+}
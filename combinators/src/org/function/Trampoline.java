@@ -0,0 +1,151 @@
+package org.function;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A computation of a value that is run in constant stack, that is, either
+ * a computed value, a suspended computation, or a computation whose value
+ * is passed on to another computation.
+ * <p>
+ * A computation is a description: nothing is computed until it is
+ * {@link #run() run}.  Running a computation keeps its pending
+ * continuations in the heap rather than in Java frames, so that no chain
+ * of suspended or bound computations, however long, overflows the stack.
+ *
+ * @param <A1> the type of the value of the computation
+ * @see TrampolinedFunction
+ * @see TrampolinedCombinators
+ */
+public sealed interface Trampoline<A1>
+{
+	/**
+	 * Returns a computation of the passed value.
+	 *
+	 * @param <A1> a type
+	 * @param value a value
+	 * @return a computation
+	 */
+	static <A1> Trampoline<A1> done(A1 value)	{ return new Done<>(value); }
+
+	/**
+	 * Returns a computation that runs the computation obtained from the
+	 * passed supplier.
+	 *
+	 * @param <A1> a type
+	 * @param next a supplier of a computation
+	 * @return a computation
+	 */
+	static <A1> Trampoline<A1> suspend(Supplier<Trampoline<A1>> next)
+	{
+		return new Suspend<>(next);
+	}
+
+	/**
+	 * Returns a computation that passes the value of this computation to
+	 * the passed function and runs the obtained computation.
+	 *
+	 * @param <A2> a type
+	 * @param f a function
+	 * @return a computation
+	 */
+	default <A2> Trampoline<A2> flatMap(
+			Function<? super A1, ? extends Trampoline<A2>> f)
+	{
+		return new FlatMap<>(this, f);
+	}
+
+	/**
+	 * Returns a computation that applies the passed function to the value
+	 * of this computation.
+	 *
+	 * @param <A2> a type
+	 * @param f a function
+	 * @return a computation
+	 */
+	default <A2> Trampoline<A2> map(Function<? super A1, ? extends A2> f)
+	{
+		return flatMap(x -> done(f.apply(x)));
+	}
+
+	/**
+	 * Runs this computation in constant stack and returns its value.
+	 *
+	 * @return the value of this computation
+	 */
+	@SuppressWarnings("unchecked")
+	default A1 run()
+	{
+		final Deque<Function<Object, ? extends Trampoline<?>>> pending =
+							new ArrayDeque<>();
+		Trampoline<?> computation = this;
+
+		for (;;) {
+			if (computation instanceof FlatMap<?, ?> bound) {
+				pending.push((Function<Object,
+						? extends Trampoline<?>>)
+							bound.f);
+				computation = bound.source;
+			} else if (computation instanceof Suspend<?> suspended) {
+				computation = suspended.next.get();
+			} else if (pending.isEmpty()) {
+				return (A1) ((Done<?>) computation).value;
+			} else {
+				computation = pending.pop()
+					.apply(((Done<?>) computation).value);
+			}
+		}
+	}
+
+	/**
+	 * A computed value.
+	 *
+	 * @param <A1> the type of the value
+	 */
+	final class Done<A1> implements Trampoline<A1>
+	{
+		private final A1 value;
+
+		Done(A1 value)			{ this.value = value; }
+
+		@Override
+		public A1 run()			{ return value; }
+	}
+
+	/**
+	 * A suspended computation.
+	 *
+	 * @param <A1> the type of the value
+	 */
+	final class Suspend<A1> implements Trampoline<A1>
+	{
+		private final Supplier<Trampoline<A1>> next;
+
+		Suspend(Supplier<Trampoline<A1>> next)
+		{
+			this.next = Objects.requireNonNull(next, "next");
+		}
+	}
+
+	/**
+	 * A computation whose value is passed on to another computation.
+	 *
+	 * @param <A1> the type of the value of the source computation
+	 * @param <A2> the type of the value
+	 */
+	final class FlatMap<A1, A2> implements Trampoline<A2>
+	{
+		private final Trampoline<A1> source;
+		private final Function<? super A1, ? extends Trampoline<A2>> f;
+
+		FlatMap(Trampoline<A1> source,
+			Function<? super A1, ? extends Trampoline<A2>> f)
+		{
+			this.source = source;
+			this.f = Objects.requireNonNull(f, "f");
+		}
+	}
+}
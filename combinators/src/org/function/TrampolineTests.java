@@ -0,0 +1,105 @@
+package org.function;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class TrampolineTests
+{
+	static {
+		boolean assertable = false;
+		assert assertable = true;
+
+		if (!assertable)
+			throw new AssertionError();
+	}
+
+	/* More layers than a small stack has interpreted frames for. */
+	private static final int DEPTH = 2048;
+
+	private TrampolineTests() { /* No instantiation. */ }
+
+	static void testCombinators(boolean inConcurrence)
+	{
+		final TrampolinedFunction<Integer,
+				TrampolinedFunction<Integer, Integer>> subtracter =
+			x -> Trampoline.done(y -> Trampoline.done(x - y));
+		final TrampolinedFunction<Integer, Integer> doubler =
+			TrampolinedFunction.of(x -> 2 * x);
+		assert TrampolinedCombinators.<Integer>i()
+			.function()
+			.apply(1) == 1;
+		assert TrampolinedCombinators.<Integer, Integer>c()
+			.apply(1)
+			.run()
+			.function()
+			.apply(2) == 1;
+		assert TrampolinedCombinators.<Integer, Integer, Integer>t()
+			.apply(subtracter)
+			.apply(1)
+			.function()
+			.apply(3) == 2;
+		assert TrampolinedCombinators.<Integer, Integer, Integer>z()
+			.apply(doubler)
+			.apply(TrampolinedFunction.of(x -> x + 1))
+			.function()
+			.apply(3) == 8;
+		assert TrampolinedCombinators.<Integer, Integer, Integer>s()
+			.apply(subtracter)
+			.apply(doubler)
+			.function()
+			.apply(3) == -3;
+		assert TrampolinedCombinators.<Integer, Integer>w()
+			.apply(subtracter)
+			.function()
+			.apply(3) == 0;
+	}
+
+	static void testTowers(boolean inConcurrence)
+	{
+		final TrampolinedFunction<Integer, Integer> successor =
+				TrampolinedFunction.of(x -> x + 1);
+		TrampolinedFunction<Integer, Integer> composed =
+				TrampolinedCombinators.i();
+		TrampolinedFunction<Integer, Integer> substituted =
+				TrampolinedCombinators.i();
+
+		for (int i = 0; i < DEPTH; ++i) {
+			composed = TrampolinedCombinators.<Integer, Integer,
+								Integer>z()
+				.apply(successor)
+				.apply(composed);
+
+			/* S(C(I))h = h. */
+			substituted = TrampolinedCombinators.<Integer, Integer,
+								Integer>s()
+				.apply(x -> Trampoline.done(
+					TrampolinedCombinators.i()))
+				.apply(substituted);
+		}
+
+		final Function<Integer, Integer> z = composed.function();
+		final Function<Integer, Integer> s = substituted.function();
+		assert TermTests.inSmallStack(ignored -> z.apply(0)) == DEPTH;
+		assert TermTests.inSmallStack(ignored -> s.apply(0)) == 0;
+	}
+
+	static void runAll(boolean inConcurrence)
+	{
+		Combinators.<Function<Boolean,
+				Function<Set<Consumer<Boolean>>,
+					Stream<Consumer<Boolean>>>>>i()
+			.apply(concurrent -> tests -> (concurrent)
+				? tests.parallelStream()
+				: tests.stream())
+			.apply(inConcurrence)
+			.apply(Set.of(concurrent -> testCombinators(concurrent),
+					concurrent -> testTowers(concurrent)))
+			.forEach(Combinators.<Function<Boolean,
+					Consumer<Consumer<Boolean>>>>i()
+				.apply(concurrent -> test -> test
+					.accept(concurrent))
+				.apply(inConcurrence));
+	}
+}
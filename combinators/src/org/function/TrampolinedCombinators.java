@@ -0,0 +1,145 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * The combinators of {@link Combinators} for {@link TrampolinedFunction
+ * trampolined functions}.
+ * <p>
+ * Every combinator suspends its applications, so that a tower of
+ * combinators, e.g. thousands of functions composed with {@link #z()}, or
+ * {@link #s()} nested in {@link #s()}, is {@link Trampoline#run() run} in
+ * constant stack, where the same tower of {@link Combinators} takes a Java
+ * frame for each of its layers.
+ *
+ * @see Combinators
+ * @see Trampoline
+ */
+public class TrampolinedCombinators
+{
+	private TrampolinedCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a trampolined function that takes a value {@code A1} and
+	 * computes the {@code A1} value.
+	 *
+	 * @param <A1> a type
+	 * @return a trampolined function
+	 * @see Combinators#i()
+	 */
+	public static <A1> TrampolinedFunction<A1, A1> i()
+	{
+		return Trampoline::done;
+	}
+
+	/**
+	 * Returns a trampolined function that takes a value {@code A1} and
+	 * computes a trampolined function that takes a value {@code A2} and
+	 * computes the {@code A1} value.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a trampolined curried function
+	 * @see Combinators#c()
+	 */
+	public static <A1, A2> TrampolinedFunction<A1,
+				TrampolinedFunction<A2, A1>> c()
+	{
+		return x -> Trampoline.done(y -> Trampoline.done(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a trampolined curried
+	 * function, and returns a functional interface that takes a value
+	 * {@code A2} and returns a trampolined function that takes a value
+	 * {@code A1} and applies the to-left function to this value, obtaining
+	 * another function to apply to the {@code A2} value, and computes
+	 * a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#t()
+	 */
+	public static <A1, A2, A3> Function<TrampolinedFunction<A1,
+					TrampolinedFunction<A2, A3>>,
+					Function<A2,
+					TrampolinedFunction<A1, A3>>> t()
+	{
+		return f -> y -> x -> Trampoline.suspend(() -> f
+			.apply(x)
+			.flatMap(f_ -> f_.apply(y)));
+	}
+
+	/**
+	 * Returns a functional interface that takes a trampolined function,
+	 * and returns a functional interface that takes a trampolined
+	 * function, and returns a trampolined function that takes a value
+	 * {@code A1} and applies the rightmost function to this value,
+	 * obtaining a value {@code A2} to which the leftmost function is
+	 * applied to, and computes a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#z()
+	 */
+	public static <A1, A2, A3> Function<TrampolinedFunction<A2, A3>,
+					Function<TrampolinedFunction<A1, A2>,
+					TrampolinedFunction<A1, A3>>> z()
+	{
+		return f -> g -> x -> Trampoline.suspend(() -> g
+			.apply(x)
+			.flatMap(f));
+	}
+
+	/**
+	 * Returns a functional interface that takes a trampolined curried
+	 * function, and returns a functional interface that takes
+	 * a trampolined function, and returns a trampolined function that
+	 * takes a value {@code A1} and applies the leftmost function to this
+	 * value, obtaining another function to apply to the {@code A2} value
+	 * obtained from applying the rightmost function to the {@code A1}
+	 * value, and computes a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a curried function
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<TrampolinedFunction<A1,
+					TrampolinedFunction<A2, A3>>,
+					Function<TrampolinedFunction<A1, A2>,
+					TrampolinedFunction<A1, A3>>> s()
+	{
+		return f -> g -> x -> Trampoline.suspend(() -> f
+			.apply(x)
+			.flatMap(f_ -> g
+				.apply(x)
+				.flatMap(f_)));
+	}
+
+	/**
+	 * Returns a functional interface that takes a trampolined curried
+	 * function, and returns a trampolined function that takes a value
+	 * {@code A1} and applies the to-left function to this value, obtaining
+	 * another function to apply to the {@code A1} value, and computes
+	 * a value {@code A2}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a curried function
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<TrampolinedFunction<A1,
+					TrampolinedFunction<A1, A2>>,
+					TrampolinedFunction<A1, A2>> w()
+	{
+		return f -> x -> Trampoline.suspend(() -> f
+			.apply(x)
+			.flatMap(f_ -> f_.apply(x)));
+	}
+}
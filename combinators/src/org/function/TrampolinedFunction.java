@@ -0,0 +1,42 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * Represents a function whose result is a {@link Trampoline computation}
+ * rather than a value, so that any chain of such functions is run in
+ * constant stack.
+ *
+ * @param <A1> the type of the argument to the function
+ * @param <A2> the type of the value of the result of the function
+ * @see Trampoline
+ * @see TrampolinedCombinators
+ */
+@FunctionalInterface
+public interface TrampolinedFunction<A1, A2>
+				extends Function<A1, Trampoline<A2>>
+{
+	/**
+	 * Returns a function that runs the computation of this function for
+	 * its argument and returns the value of the computation.
+	 *
+	 * @return a function
+	 */
+	default Function<A1, A2> function()
+	{
+		return x -> apply(x).run();
+	}
+
+	/**
+	 * Returns a trampolined function that applies the passed function.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param f a function
+	 * @return a trampolined function
+	 */
+	static <A1, A2> TrampolinedFunction<A1, A2> of(Function<A1, A2> f)
+	{
+		return x -> Trampoline.done(f.apply(x));
+	}
+}
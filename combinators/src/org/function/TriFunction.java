@@ -0,0 +1,59 @@
+package org.function;
+
+import java.util.function.Function;
+
+/**
+ * Represents a function that accepts three arguments and produces a result.
+ * This is the three-arity specialization of
+ * {@link java.util.function.Function Function}.
+ *
+ * @param <A1> the type of the first argument to the function
+ * @param <A2> the type of the second argument to the function
+ * @param <A3> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ * @see java.util.function.BiFunction
+ */
+@FunctionalInterface
+public interface TriFunction<A1, A2, A3, R>
+{
+	/**
+	 * Applies this function to the given arguments.
+	 *
+	 * @param a1 the first function argument
+	 * @param a2 the second function argument
+	 * @param a3 the third function argument
+	 * @return the function result
+	 */
+	R apply(A1 a1, A2 a2, A3 a3);
+
+	/**
+	 * Returns a curried function that applies this function to the
+	 * arguments that it is applied to, in turn.
+	 *
+	 * @return a curried function
+	 */
+	default Function<A1, Function<A2, Function<A3, R>>> curried()
+	{
+		return a1 -> a2 -> a3 -> apply(a1, a2, a3);
+	}
+
+	/**
+	 * Returns a function that applies the passed curried function to its
+	 * arguments, in turn.
+	 *
+	 * @param <A1> the type of the first argument to the function
+	 * @param <A2> the type of the second argument to the function
+	 * @param <A3> the type of the third argument to the function
+	 * @param <R> the type of the result of the function
+	 * @param f a curried function
+	 * @return a function
+	 */
+	static <A1, A2, A3, R> TriFunction<A1, A2, A3, R> uncurried(
+			Function<A1, Function<A2, Function<A3, R>>> f)
+	{
+		return (a1, a2, a3) -> f
+			.apply(a1)
+			.apply(a2)
+			.apply(a3);
+	}
+}
@@ -0,0 +1,275 @@
+package org.function;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The combinators of {@link Combinators} that take all their arguments at
+ * once.
+ * <p>
+ * A fully applied curried combinator, e.g. {@code Combinators.s()
+ * .apply(f).apply(g).apply(x)}, creates a function for each but the last
+ * of its arguments; an uncurried combinator, e.g. {@code
+ * UncurriedCombinators.s(f, g, x)}, applies its arguments in one call.
+ * The {@link TriFunction#curried() curried} and {@link #curried(BiFunction)
+ * curried} adapters restore the shape of {@link Combinators}.
+ *
+ * @see Combinators
+ */
+public class UncurriedCombinators
+{
+	private UncurriedCombinators() { /* No instantiation. */ }
+
+	/**
+	 * Returns a functional interface that takes a functional interface
+	 * that takes a value {@code A1} and returns a functional interface
+	 * that takes a value {@code A2} and returns a value {@code A3}, and
+	 * a value {@code A2}, and a value {@code A1}, and applies the function
+	 * to the {@code A1} value, obtaining another function to apply to the
+	 * {@code A2} value, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a function of three arguments
+	 * @see Combinators#t()
+	 */
+	public static <A1, A2, A3> TriFunction<Function<A1, Function<A2, A3>>,
+					A2, A1, A3> t()
+	{
+		return UncurriedCombinators::t;
+	}
+
+	/**
+	 * Applies the passed function to the passed {@code A1} value,
+	 * obtaining another function to apply to the passed {@code A2}
+	 * value, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a curried function
+	 * @param y a value
+	 * @param x a value
+	 * @return {@code Tfyx}
+	 * @see Combinators#t()
+	 */
+	public static <A1, A2, A3> A3 t(Function<A1, Function<A2, A3>> f,
+								A2 y, A1 x)
+	{
+		return f.apply(x)
+			.apply(y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a value {@code A2} and
+	 * a value {@code A1} and applies the passed function to the
+	 * {@code A1} and {@code A2} values, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a function of two arguments
+	 * @return a function of two arguments
+	 * @see Combinators#t()
+	 */
+	public static <A1, A2, A3> BiFunction<A2, A1, A3> t(
+						BiFunction<A1, A2, A3> f)
+	{
+		return (y, x) -> f.apply(x, y);
+	}
+
+	/**
+	 * Returns a functional interface that takes a functional interface
+	 * that takes a value {@code A2} and returns a value {@code A3}, and
+	 * a functional interface that takes a value {@code A1} and returns
+	 * a value {@code A2}, and a value {@code A1}, and applies the latter
+	 * function to the {@code A1} value, obtaining a value {@code A2} to
+	 * which the former function is applied to, and returns a value
+	 * {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a function of three arguments
+	 * @see Combinators#z()
+	 */
+	public static <A1, A2, A3> TriFunction<Function<A2, A3>,
+					Function<A1, A2>, A1, A3> z()
+	{
+		return UncurriedCombinators::z;
+	}
+
+	/**
+	 * Applies the passed {@code g} function to the passed {@code A1}
+	 * value, obtaining a value {@code A2} to which the passed {@code f}
+	 * function is applied to, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a function
+	 * @param g a function
+	 * @param x a value
+	 * @return {@code Zfgx}
+	 * @see Combinators#z()
+	 */
+	public static <A1, A2, A3> A3 z(Function<A2, A3> f,
+						Function<A1, A2> g, A1 x)
+	{
+		return f.apply(g
+			.apply(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a functional interface
+	 * that takes a value {@code A1} and returns a functional interface
+	 * that takes a value {@code A2} and returns a value {@code A3}, and
+	 * a functional interface that takes a value {@code A1} and returns
+	 * a value {@code A2}, and a value {@code A1}, and applies the former
+	 * function to the {@code A1} value, obtaining another function to
+	 * apply to the {@code A2} value obtained from applying the latter
+	 * function to the {@code A1} value, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @return a function of three arguments
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> TriFunction<Function<A1, Function<A2, A3>>,
+					Function<A1, A2>, A1, A3> s()
+	{
+		return UncurriedCombinators::s;
+	}
+
+	/**
+	 * Applies the passed {@code f} function to the passed {@code A1}
+	 * value, obtaining another function to apply to the {@code A2} value
+	 * obtained from applying the passed {@code g} function to the
+	 * {@code A1} value, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a curried function
+	 * @param g a function
+	 * @param x a value
+	 * @return {@code Sfgx}
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> A3 s(Function<A1, Function<A2, A3>> f,
+						Function<A1, A2> g, A1 x)
+	{
+		return f.apply(x)
+			.apply(g
+				.apply(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a value {@code A1} and
+	 * applies the passed {@code f} function to this value and the
+	 * {@code A2} value obtained from applying the passed {@code g}
+	 * function to the {@code A1} value, and returns a value {@code A3}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a function of two arguments
+	 * @param g a function
+	 * @return a function
+	 * @see Combinators#s()
+	 */
+	public static <A1, A2, A3> Function<A1, A3> s(BiFunction<A1, A2, A3> f,
+							Function<A1, A2> g)
+	{
+		return x -> f.apply(x, g.apply(x));
+	}
+
+	/**
+	 * Returns a functional interface that takes a functional interface
+	 * that takes a value {@code A1} and returns a functional interface
+	 * that takes a value {@code A1} and returns a value {@code A2}, and
+	 * a value {@code A1}, and applies the function to the {@code A1}
+	 * value, obtaining another function to apply to the {@code A1} value,
+	 * and returns a value {@code A2}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @return a function of two arguments
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> BiFunction<Function<A1, Function<A1, A2>>,
+								A1, A2> w()
+	{
+		return UncurriedCombinators::w;
+	}
+
+	/**
+	 * Applies the passed function to the passed {@code A1} value,
+	 * obtaining another function to apply to the {@code A1} value, and
+	 * returns a value {@code A2}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param f a curried function
+	 * @param x a value
+	 * @return {@code Wfx}
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> A2 w(Function<A1, Function<A1, A2>> f, A1 x)
+	{
+		return f.apply(x)
+			.apply(x);
+	}
+
+	/**
+	 * Returns a functional interface that takes a value {@code A1} and
+	 * applies the passed function to this value twice over, and returns
+	 * a value {@code A2}.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param f a function of two arguments
+	 * @return a function
+	 * @see Combinators#w()
+	 */
+	public static <A1, A2> Function<A1, A2> w(BiFunction<A1, A1, A2> f)
+	{
+		return x -> f.apply(x, x);
+	}
+
+	/**
+	 * Returns a curried function that applies the passed function to
+	 * the arguments that it is applied to, in turn.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a function of two arguments
+	 * @return a curried function
+	 */
+	public static <A1, A2, A3> Function<A1, Function<A2, A3>> curried(
+						BiFunction<A1, A2, A3> f)
+	{
+		return x -> y -> f.apply(x, y);
+	}
+
+	/**
+	 * Returns a function of two arguments that applies the passed curried
+	 * function to its arguments, in turn.
+	 *
+	 * @param <A1> a type
+	 * @param <A2> a type
+	 * @param <A3> a type
+	 * @param f a curried function
+	 * @return a function of two arguments
+	 */
+	public static <A1, A2, A3> BiFunction<A1, A2, A3> uncurried(
+					Function<A1, Function<A2, A3>> f)
+	{
+		return (x, y) -> f
+			.apply(x)
+			.apply(y);
+	}
+}